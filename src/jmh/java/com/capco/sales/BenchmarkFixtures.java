@@ -0,0 +1,72 @@
+package com.capco.sales;
+
+import com.capco.sales.config.CartProperties;
+import com.capco.sales.dto.CartItemDto;
+import com.capco.sales.dto.ShoppingCartRequest;
+import com.capco.sales.metrics.CartMetrics;
+import com.capco.sales.model.Client;
+import com.capco.sales.model.ProductType;
+import com.capco.sales.service.CartPricingEngine;
+import com.capco.sales.service.CartQuoteCache;
+import com.capco.sales.service.CartService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Fixtures shared by the benchmarks.
+ * Carts are seeded so every run prices exactly the same carts.
+ */
+@UtilityClass
+public final class BenchmarkFixtures {
+
+    public static final long SEED = 42L;
+
+    /**
+     * @param clientType one of {@code INDIVIDUAL}, {@code PROFESSIONAL_LOW} or {@code PROFESSIONAL_HIGH}
+     * @return the matching client from {@link TestDataFactory}
+     */
+    public static Client client(String clientType) {
+        return switch (clientType) {
+            case "INDIVIDUAL" -> TestDataFactory.createIndividualClient();
+            case "PROFESSIONAL_LOW" -> TestDataFactory.createProfessionalClientLowRevenue();
+            case "PROFESSIONAL_HIGH" -> TestDataFactory.createProfessionalClientHighRevenue();
+            default -> throw new IllegalArgumentException("Unknown client type: " + clientType);
+        };
+    }
+
+    /**
+     * Builds a cart with random product types and quantities between 1 and 100.
+     *
+     * @param clientType the client type, see {@link #client(String)}
+     * @param cartSize the number of cart lines
+     * @return the shopping cart request
+     */
+    public static ShoppingCartRequest cart(String clientType, int cartSize) {
+        Random random = new Random(SEED);
+        ProductType[] productTypes = ProductType.values();
+        List<CartItemDto> items = new ArrayList<>(cartSize);
+        for (int i = 0; i < cartSize; i++) {
+            items.add(new CartItemDto(productTypes[random.nextInt(productTypes.length)], 1 + random.nextInt(100)));
+        }
+        return new ShoppingCartRequest(client(clientType), List.copyOf(items));
+    }
+
+    /**
+     * Builds a cart service wired like the application's, with the quote cache disabled
+     * so that every invocation actually prices the cart.
+     *
+     * @return the cart service
+     */
+    public static CartService cartService() {
+        CartProperties properties = new CartProperties();
+        properties.getQuoteCache().setEnabled(false);
+        return new CartService(new CartPricingEngine(new CartProperties()), TestDataFactory.createBuiltInPriceCatalog(),
+                TestDataFactory.createDefaultPricingStrategyResolver(), TestDataFactory.createNegotiatedPrices(),
+                TestDataFactory.createPromotionEngine(), properties,
+                new CartQuoteCache(properties), new CartMetrics(new SimpleMeterRegistry()));
+    }
+}
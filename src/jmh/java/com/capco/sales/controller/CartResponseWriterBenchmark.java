@@ -0,0 +1,64 @@
+package com.capco.sales.controller;
+
+import com.capco.sales.BenchmarkFixtures;
+import com.capco.sales.dto.CartTotalResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing a cart response body with Jackson against writing it from cached item detail fragments.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class CartResponseWriterBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int cartSize;
+
+    private ObjectWriter responseWriter;
+    private CartTotalResponseHttpMessageConverter fragmentConverter;
+    private CartTotalResponse response;
+
+    @Setup
+    public void setup() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        responseWriter = objectMapper.writerFor(CartTotalResponse.class);
+        fragmentConverter = new CartTotalResponseHttpMessageConverter(objectMapper, 10_000);
+        response = BenchmarkFixtures.cartService().calculateTotal(BenchmarkFixtures.cart("INDIVIDUAL", cartSize));
+    }
+
+    @Benchmark
+    public MockHttpOutputMessage jackson() throws IOException {
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        responseWriter.writeValue(outputMessage.getBody(), response);
+        return outputMessage;
+    }
+
+    @Benchmark
+    public MockHttpOutputMessage fragments() throws IOException {
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        fragmentConverter.write(response, MediaType.APPLICATION_JSON, outputMessage);
+        return outputMessage;
+    }
+}
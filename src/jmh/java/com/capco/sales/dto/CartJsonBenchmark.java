@@ -0,0 +1,73 @@
+package com.capco.sales.dto;
+
+import com.capco.sales.BenchmarkFixtures;
+import com.capco.sales.config.BinaryWireFormatConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson cost of the cart API: deserialization of {@link ShoppingCartRequest} with its polymorphic client
+ * and serialization of {@link CartTotalResponse}, using an {@link ObjectMapper} configured like Spring Boot's
+ * for JSON and like {@link BinaryWireFormatConfig} for the Smile binary wire format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class CartJsonBenchmark {
+
+    @Param({"JSON", "SMILE"})
+    private String wireFormat;
+
+    @Param({"INDIVIDUAL", "PROFESSIONAL_HIGH"})
+    private String clientType;
+
+    @Param({"1", "100", "10000"})
+    private int cartSize;
+
+    private ObjectReader requestReader;
+    private ObjectWriter responseWriter;
+    private byte[] requestJson;
+    private CartTotalResponse response;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper objectMapper = "SMILE".equals(wireFormat)
+                ? BinaryWireFormatConfig.smileObjectMapper(new Jackson2ObjectMapperBuilder())
+                : Jackson2ObjectMapperBuilder.json().build();
+        requestReader = objectMapper.readerFor(ShoppingCartRequest.class);
+        responseWriter = objectMapper.writerFor(CartTotalResponse.class);
+
+        ShoppingCartRequest request = BenchmarkFixtures.cart(clientType, cartSize);
+        requestJson = objectMapper.writeValueAsBytes(request);
+        response = BenchmarkFixtures.cartService().calculateTotal(request);
+    }
+
+    @Benchmark
+    public ShoppingCartRequest deserializeRequest() throws IOException {
+        return requestReader.readValue(requestJson);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,119 @@
+package com.capco.sales.pricing;
+
+import com.capco.sales.model.Client;
+import com.capco.sales.model.IndividualClient;
+import com.capco.sales.model.ProductType;
+import com.capco.sales.model.ProfessionalClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the price lookup of the strategies against the former implementation,
+ * which allocated a strategy per call and looked prices up in a {@code Map.of}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceLookupBenchmark {
+
+    private static final int LOOKUPS = 1024;
+
+    private static final BigDecimal HIGH_REVENUE_THRESHOLD = new BigDecimal("10000000");
+
+    @Param({"INDIVIDUAL", "PROFESSIONAL_LOW", "PROFESSIONAL_HIGH"})
+    private String clientType;
+
+    private Client client;
+    private ProductType[] productTypes;
+
+    @Setup
+    public void setup() {
+        client = switch (clientType) {
+            case "INDIVIDUAL" -> new IndividualClient("IND001", "John", "Doe");
+            case "PROFESSIONAL_LOW" -> new ProfessionalClient("PRO002", "Small Business Ltd", null, "REG456",
+                    new BigDecimal("5000000"));
+            default -> new ProfessionalClient("PRO001", "Tech Corp", "FR123456789", "REG123",
+                    new BigDecimal("15000000"));
+        };
+
+        ProductType[] values = ProductType.values();
+        Random random = new Random(42);
+        productTypes = new ProductType[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            productTypes[i] = values[random.nextInt(values.length)];
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void mapLookup(Blackhole blackhole) {
+        for (ProductType productType : productTypes) {
+            blackhole.consume(legacyStrategy(client).getPrice(productType));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void arrayLookup(Blackhole blackhole) {
+        for (ProductType productType : productTypes) {
+            blackhole.consume(client.getPricingStrategy().getPrice(productType));
+        }
+    }
+
+    private static MapPricingStrategy legacyStrategy(Client client) {
+        return switch (client) {
+            case IndividualClient individual -> new MapPricingStrategy(MapPricingStrategy.INDIVIDUAL);
+            case ProfessionalClient professional when professional.annualRevenue()
+                                                                  .compareTo(HIGH_REVENUE_THRESHOLD) > 0 ->
+                    new MapPricingStrategy(MapPricingStrategy.HIGH_REVENUE_PROFESSIONAL);
+            case ProfessionalClient professional -> new MapPricingStrategy(MapPricingStrategy.LOW_REVENUE_PROFESSIONAL);
+        };
+    }
+
+    /**
+     * Copy of the former strategy implementation: one instance per call and a {@code Map.of} lookup.
+     */
+    private record MapPricingStrategy(Map<ProductType, BigDecimal> prices) {
+
+        static final Map<ProductType, BigDecimal> INDIVIDUAL = Map.of(
+                ProductType.HIGH_END_PHONE, new BigDecimal("1500"),
+                ProductType.MID_RANGE_PHONE, new BigDecimal("800"),
+                ProductType.LAPTOP, new BigDecimal("1200")
+        );
+
+        static final Map<ProductType, BigDecimal> HIGH_REVENUE_PROFESSIONAL = Map.of(
+                ProductType.HIGH_END_PHONE, new BigDecimal("1000"),
+                ProductType.MID_RANGE_PHONE, new BigDecimal("550"),
+                ProductType.LAPTOP, new BigDecimal("900")
+        );
+
+        static final Map<ProductType, BigDecimal> LOW_REVENUE_PROFESSIONAL = Map.of(
+                ProductType.HIGH_END_PHONE, new BigDecimal("1150"),
+                ProductType.MID_RANGE_PHONE, new BigDecimal("600"),
+                ProductType.LAPTOP, new BigDecimal("1000")
+        );
+
+        BigDecimal getPrice(ProductType productType) {
+            return prices.get(productType);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.capco.sales.pricing;
+
+import com.capco.sales.config.PricingRulesProperties;
+import com.capco.sales.model.ContractLevel;
+import com.capco.sales.model.ProfessionalClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the compiled decision table against a linear scan of the rules comparing {@link BigDecimal} bounds,
+ * for a growing number of revenue bands per country, and against the decision table behind the
+ * {@link ClientTierCache}, with every client already cached.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingDecisionTableBenchmark {
+
+    private static final int LOOKUPS = 1024;
+
+    private static final String[] COUNTRIES = {"FR", "DE", "GB", "ES"};
+
+    @Param({"2", "8", "32"})
+    private int bands;
+
+    private List<PricingRule> rules;
+    private PricingDecisionTable table;
+    private String[] countries;
+    private ContractLevel[] contractLevels;
+    private BigDecimal[] revenues;
+    private ProfessionalClient[] clients;
+    private ClientTierCache tierCache;
+
+    @Setup
+    public void setup() {
+        rules = new ArrayList<>();
+        rules.add(new PricingRule(null, null, null, LowRevenueProfessionalPricingStrategy.INSTANCE));
+        for (String country : COUNTRIES) {
+            for (int band = 0; band < bands; band++) {
+                PricingStrategy strategy = band % 2 == 0
+                        ? HighRevenueProfessionalPricingStrategy.INSTANCE
+                        : LowRevenueProfessionalPricingStrategy.INSTANCE;
+                rules.add(new PricingRule(country, ContractLevel.GOLD, BigDecimal.valueOf(1_000_000L * band), strategy));
+            }
+        }
+        table = PricingDecisionTable.compile(rules);
+
+        Random random = new Random(42);
+        ContractLevel[] levels = ContractLevel.values();
+        countries = new String[LOOKUPS];
+        contractLevels = new ContractLevel[LOOKUPS];
+        revenues = new BigDecimal[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            countries[i] = COUNTRIES[random.nextInt(COUNTRIES.length)];
+            contractLevels[i] = levels[random.nextInt(levels.length)];
+            revenues[i] = BigDecimal.valueOf(random.nextLong(1_000_000L * bands * 100), 2);
+        }
+
+        PricingRulesProperties properties = new PricingRulesProperties();
+        properties.getTierCache().setEnabled(true);
+        tierCache = new ClientTierCache(properties);
+        clients = new ProfessionalClient[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            clients[i] = new ProfessionalClient("PRO" + i, "Company " + i, null, "REG" + i, revenues[i], countries[i],
+                    contractLevels[i]);
+            ProfessionalClient client = clients[i];
+            tierCache.get(client, PricingDecisionTable.revenueCents(client.annualRevenue()),
+                    () -> table.resolve(client.country(), client.contractLevel(), client.annualRevenue()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void decisionTable(Blackhole blackhole) {
+        for (int i = 0; i < LOOKUPS; i++) {
+            blackhole.consume(table.resolve(countries[i], contractLevels[i], revenues[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void uncachedDecisionTable(Blackhole blackhole) {
+        for (ProfessionalClient client : clients) {
+            long revenueCents = PricingDecisionTable.revenueCents(client.annualRevenue());
+            blackhole.consume(table.resolve(client.country(), client.contractLevel(), revenueCents));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void cachedDecisionTable(Blackhole blackhole) {
+        for (ProfessionalClient client : clients) {
+            long revenueCents = PricingDecisionTable.revenueCents(client.annualRevenue());
+            blackhole.consume(tierCache.get(client, revenueCents,
+                    () -> table.resolve(client.country(), client.contractLevel(), revenueCents)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void linearScan(Blackhole blackhole) {
+        for (int i = 0; i < LOOKUPS; i++) {
+            blackhole.consume(linearScan(countries[i], contractLevels[i], revenues[i]));
+        }
+    }
+
+    /**
+     * Straightforward rule evaluation: every rule is checked, the most specific match with the highest bound wins.
+     */
+    private PricingStrategy linearScan(String country, ContractLevel contractLevel, BigDecimal revenue) {
+        PricingRule best = null;
+        int bestSpecificity = -1;
+        for (PricingRule rule : rules) {
+            if ((rule.country() != null && !rule.country().equals(country))
+                    || (rule.contractLevel() != null && rule.contractLevel() != contractLevel)
+                    || (rule.revenueAbove() != null && revenue.compareTo(rule.revenueAbove()) <= 0)) {
+                continue;
+            }
+            int specificity = (rule.country() != null ? 2 : 0) + (rule.contractLevel() != null ? 1 : 0);
+            if (specificity > bestSpecificity || (specificity == bestSpecificity && hasHigherBound(rule, best))) {
+                best = rule;
+                bestSpecificity = specificity;
+            }
+        }
+        return best.strategy();
+    }
+
+    private static boolean hasHigherBound(PricingRule rule, PricingRule other) {
+        return rule.revenueAbove() != null
+                && (other.revenueAbove() == null || rule.revenueAbove().compareTo(other.revenueAbove()) > 0);
+    }
+}
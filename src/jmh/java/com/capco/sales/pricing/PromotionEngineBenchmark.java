@@ -0,0 +1,85 @@
+package com.capco.sales.pricing;
+
+import com.capco.sales.config.CartProperties;
+import com.capco.sales.config.PromotionProperties;
+import com.capco.sales.dto.CartItemDto;
+import com.capco.sales.dto.CartTotalResponse;
+import com.capco.sales.model.ProductType;
+import com.capco.sales.service.CartPricingEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures applying promotions to a priced cart as the number of active promotions grows;
+ * the cost should stay flat.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PromotionEngineBenchmark {
+
+    private static final ProductType[] PRODUCT_TYPES = ProductType.values();
+
+    @Param({"0", "10", "100", "500"})
+    private int promotions;
+
+    @Param({"10", "100"})
+    private int lines;
+
+    private PromotionEngine promotionEngine;
+    private CartTotalResponse pricedCart;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        PromotionProperties properties = new PromotionProperties();
+        for (int i = 0; i < promotions; i++) {
+            PromotionProperties.Promotion promotion = new PromotionProperties.Promotion()
+                    .setId("PROMO" + i)
+                    .setPercent(BigDecimal.valueOf(1 + random.nextInt(30)));
+            ProductType product = PRODUCT_TYPES[random.nextInt(PRODUCT_TYPES.length)];
+            switch (i % 3) {
+                case 0 -> promotion.setType(PromotionType.QUANTITY_BREAK)
+                                   .setProducts(EnumSet.of(product))
+                                   .setMinQuantity(1 + random.nextInt(50));
+                case 1 -> promotion.setType(PromotionType.BUNDLE)
+                                   .setProducts(EnumSet.of(product, PRODUCT_TYPES[(product.ordinal() + 1)
+                                           % PRODUCT_TYPES.length]));
+                default -> promotion.setType(PromotionType.PERCENTAGE)
+                                    .setProducts(EnumSet.of(product));
+            }
+            properties.getRules().add(promotion);
+        }
+        promotionEngine = new PromotionEngine(properties);
+
+        List<CartItemDto> items = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            items.add(new CartItemDto(PRODUCT_TYPES[random.nextInt(PRODUCT_TYPES.length)], 1 + random.nextInt(5)));
+        }
+        pricedCart = new CartPricingEngine(new CartProperties()).price(IndividualPricingStrategy.INSTANCE.priceTable(), items);
+    }
+
+    @Benchmark
+    public CartTotalResponse apply() {
+        return promotionEngine.apply(IndividualPricingStrategy.INSTANCE, pricedCart);
+    }
+}
@@ -0,0 +1,56 @@
+package com.capco.sales.service;
+
+import com.capco.sales.BenchmarkFixtures;
+import com.capco.sales.config.CartProperties;
+import com.capco.sales.dto.CartItemDto;
+import com.capco.sales.dto.CartTotalResponse;
+import com.capco.sales.pricing.IndividualPricingStrategy;
+import com.capco.sales.pricing.PriceTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sequential against parallel pricing of large carts, to pick {@code capco.cart.parallel-threshold}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class CartPricingEngineBenchmark {
+
+    @Param({"5000", "50000", "500000"})
+    private int cartSize;
+
+    @Param({"true", "false"})
+    private boolean parallel;
+
+    private CartPricingEngine pricingEngine;
+    private PriceTable prices;
+    private List<CartItemDto> items;
+
+    @Setup
+    public void setup() {
+        pricingEngine = new CartPricingEngine(new CartProperties().setParallelThreshold(parallel ? 1 : 0));
+        prices = IndividualPricingStrategy.INSTANCE.priceTable();
+        items = BenchmarkFixtures.cart("INDIVIDUAL", cartSize).items();
+    }
+
+    @Benchmark
+    public CartTotalResponse price() {
+        return pricingEngine.price(prices, items);
+    }
+}
@@ -0,0 +1,51 @@
+package com.capco.sales.service;
+
+import com.capco.sales.BenchmarkFixtures;
+import com.capco.sales.dto.CartTotalResponse;
+import com.capco.sales.dto.ShoppingCartRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and latency of {@link CartService#calculateTotal} across cart sizes and client types.
+ * Run with {@code -prof gc} to get the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class CartServiceBenchmark {
+
+    @Param({"INDIVIDUAL", "PROFESSIONAL_LOW", "PROFESSIONAL_HIGH"})
+    private String clientType;
+
+    @Param({"1", "10", "100", "1000", "10000"})
+    private int cartSize;
+
+    private CartService cartService;
+    private ShoppingCartRequest request;
+
+    @Setup
+    public void setup() {
+        cartService = BenchmarkFixtures.cartService();
+        request = BenchmarkFixtures.cart(clientType, cartSize);
+    }
+
+    @Benchmark
+    public CartTotalResponse calculateTotal() {
+        return cartService.calculateTotal(request);
+    }
+}
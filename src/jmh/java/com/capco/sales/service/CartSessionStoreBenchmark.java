@@ -0,0 +1,70 @@
+package com.capco.sales.service;
+
+import com.capco.sales.BenchmarkFixtures;
+import com.capco.sales.TestDataFactory;
+import com.capco.sales.config.CartProperties;
+import com.capco.sales.dto.CartSessionRequest;
+import com.capco.sales.dto.CartSessionResponse;
+import com.capco.sales.model.ProductType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of concurrent cart session mutations on random sessions of a populated store.
+ * Compare runs with increasing thread counts ({@code -t 1}, {@code -t 8}, {@code -t 32}, ...) to check how
+ * throughput scales with cores, and the {@code shards} parameter to see the effect of lock striping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class CartSessionStoreBenchmark {
+
+    private static final ProductType[] PRODUCT_TYPES = ProductType.values();
+
+    @Param({"1", "0"})
+    private int shards;
+
+    @Param({"100000"})
+    private int sessions;
+
+    private CartSessionService cartSessionService;
+    private String[] sessionIds;
+
+    @Setup
+    public void setup() {
+        CartProperties properties = new CartProperties();
+        properties.getSessions().setShards(shards).setMaximumSize(sessions);
+        cartSessionService = new CartSessionService(TestDataFactory.createBuiltInPriceCatalog(),
+                TestDataFactory.createDefaultPricingStrategyResolver(), TestDataFactory.createNegotiatedPrices(),
+                TestDataFactory.createPromotionEngine(), new CartSessionStore(properties),
+                new CartSessionJournal(properties));
+
+        CartSessionRequest request = new CartSessionRequest(BenchmarkFixtures.client("PROFESSIONAL_HIGH"), null);
+        sessionIds = new String[sessions];
+        for (int i = 0; i < sessions; i++) {
+            sessionIds[i] = cartSessionService.create(request).sessionId();
+        }
+    }
+
+    @Benchmark
+    public CartSessionResponse changeQuantity() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return cartSessionService.changeQuantity(sessionIds[random.nextInt(sessionIds.length)],
+                PRODUCT_TYPES[random.nextInt(PRODUCT_TYPES.length)], 1 + random.nextInt(100));
+    }
+}
@@ -0,0 +1,72 @@
+package com.capco.sales.service;
+
+import com.capco.sales.BenchmarkFixtures;
+import com.capco.sales.dto.CartTotalResponse;
+import com.capco.sales.dto.CartView;
+import com.capco.sales.dto.ShoppingCartRequest;
+import com.capco.sales.metrics.CartMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading and pricing a JSON cart: bound as a {@link ShoppingCartRequest} then priced, against the streaming
+ * service with and without item details. Run with {@code -prof gc} to compare allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class StreamingCartServiceBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    private int cartSize;
+
+    private CartService cartService;
+    private StreamingCartService streamingCartService;
+    private ObjectReader requestReader;
+    private byte[] requestJson;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        cartService = BenchmarkFixtures.cartService();
+        streamingCartService = new StreamingCartService(cartService, new CartMetrics(new SimpleMeterRegistry()),
+                objectMapper);
+        requestReader = objectMapper.readerFor(ShoppingCartRequest.class);
+        requestJson = objectMapper.writeValueAsBytes(BenchmarkFixtures.cart("PROFESSIONAL_HIGH", cartSize));
+    }
+
+    @Benchmark
+    public CartTotalResponse bound() throws IOException {
+        return cartService.calculateTotal(requestReader.readValue(requestJson));
+    }
+
+    @Benchmark
+    public CartTotalResponse streaming() throws IOException {
+        return streamingCartService.calculateTotal(new ByteArrayInputStream(requestJson), null, CartView.FULL);
+    }
+
+    @Benchmark
+    public CartTotalResponse streamingTotalsOnly() throws IOException {
+        return streamingCartService.calculateTotal(new ByteArrayInputStream(requestJson), null, CartView.TOTAL);
+    }
+}
@@ -0,0 +1,69 @@
+package com.capco.sales.validation;
+
+import com.capco.sales.BenchmarkFixtures;
+import com.capco.sales.dto.ShoppingCartRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hand-specialized validation of valid carts against Hibernate Validator.
+ * Run with {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShoppingCartRequestValidatorBenchmark {
+
+    @Param({"INDIVIDUAL", "PROFESSIONAL"})
+    private String clientType;
+
+    @Param({"10", "1000", "100000"})
+    private int cartSize;
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private ShoppingCartRequest request;
+
+    @Setup
+    public void setup() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        request = BenchmarkFixtures.cart(clientType, cartSize);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Map<String, String> specialized() {
+        return ShoppingCartRequestValidator.validate(request);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ShoppingCartRequest>> beanValidation() {
+        return validator.validate(request);
+    }
+}
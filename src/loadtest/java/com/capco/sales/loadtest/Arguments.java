@@ -0,0 +1,30 @@
+package com.capco.sales.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Parser of the {@code key=value} arguments shared by the load-test harnesses.
+ */
+final class Arguments {
+
+    private Arguments() {
+    }
+
+    /**
+     * @param args the command line arguments
+     * @return the arguments by key, sorted so that they can be written to a report as given
+     * @throws IllegalArgumentException if an argument is not of the form {@code key=value}
+     */
+    static Map<String, String> parse(String[] args) {
+        Map<String, String> arguments = new TreeMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value argument: " + arg);
+            }
+            arguments.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        return arguments;
+    }
+}
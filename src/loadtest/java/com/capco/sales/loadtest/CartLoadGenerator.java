@@ -0,0 +1,205 @@
+package com.capco.sales.loadtest;
+
+import com.capco.sales.SalesApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Capacity test of the cart API: starts the application on a random port and replays a seeded mix of
+ * {@code ShoppingCartRequest} payloads against it, then writes a JSON report that can be diffed between builds.
+ * <p>
+ * Payloads are drawn from {@link CartPayloadGenerator} with the client type mix, cart size distribution and
+ * error rate of the {@link LoadProfile}, and replayed in the same order on every run. Latencies are recorded in
+ * HdrHistograms, overall and per client type and cart size range. With a target {@code rate}, each request is
+ * timed from its scheduled send time, see {@link Replay}.
+ * <p>
+ * The report holds the profile, the environment, the throughput, the response status counts and the latency
+ * percentiles in milliseconds, plus the overall histogram, compressed and Base64-encoded, for HdrHistogram tools.
+ * The run fails if a response does not have the expected status.
+ */
+public final class CartLoadGenerator {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+    private CartLoadGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadProfile profile = LoadProfile.parse(args);
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<CartPayloadGenerator.Payload> payloads =
+                new CartPayloadGenerator(profile, objectMapper).generate(profile.payloads());
+
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(SalesApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN"
+                );
+        profile.appProperties().forEach((name, value) -> builder.properties(name + "=" + value));
+
+        Run run;
+        try (ConfigurableApplicationContext app = builder.run()) {
+            URI uri = URI.create("http://localhost:" + app.getEnvironment().getProperty("local.server.port")
+                    + profile.endpoint());
+            if (profile.warmup() > 0) {
+                replay(uri, payloads, profile, profile.warmup());
+            }
+            run = replay(uri, payloads, profile, profile.requests());
+        }
+
+        Report report = report(profile, run);
+        Path path = Path.of(profile.report());
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        objectMapper.copy()
+                    .enable(SerializationFeature.INDENT_OUTPUT)
+                    .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                    .writeValue(path.toFile(), report);
+
+        print(report);
+        System.out.println("Report written to " + path.toAbsolutePath());
+        if (report.summary().unexpected() > 0 || report.summary().failures() > 0) {
+            System.err.printf("%d unexpected responses, %d failed requests%n",
+                    report.summary().unexpected(), report.summary().failures());
+            System.exit(1);
+        }
+    }
+
+    private static Run replay(URI uri, List<CartPayloadGenerator.Payload> payloads, LoadProfile profile, int requests)
+            throws InterruptedException {
+        Run run = new Run(profile);
+        run.elapsedNanos = Replay.run(uri, requests, profile.concurrency(), profile.rate(),
+                i -> payloads.get(i % payloads.size()).body(),
+                (i, status, nanos) -> run.record(payloads.get(i % payloads.size()), status, nanos));
+        return run;
+    }
+
+    private static Report report(LoadProfile profile, Run run) {
+        Map<String, Integer> statuses = new TreeMap<>();
+        for (int status = 0; status < run.statuses.length(); status++) {
+            if (run.statuses.get(status) > 0) {
+                statuses.put(String.valueOf(status), run.statuses.get(status));
+            }
+        }
+        long count = run.all.getTotalCount();
+        Summary summary = new Summary(count, round(run.elapsedNanos / 1e9),
+                round(count * 1e9 / run.elapsedNanos), statuses, run.unexpected.get(), run.failures.get());
+
+        Map<String, Latency> byClientType = new TreeMap<>();
+        run.byClientType.forEach((clientType, histogram) -> byClientType.put(clientType, Latency.of(histogram)));
+        Map<String, Latency> byCartSize = new TreeMap<>();
+        run.byCartSize.forEach((cartSizes, histogram) -> byCartSize.put(cartSizes, Latency.of(histogram)));
+
+        ByteBuffer encoded = ByteBuffer.allocate(run.all.getNeededByteBufferCapacity());
+        int length = run.all.encodeIntoCompressedByteBuffer(encoded);
+        String histogram = Base64.getEncoder().encodeToString(Arrays.copyOf(encoded.array(), length));
+
+        Environment environment = new Environment(System.getProperty("java.vm.name") + " "
+                + System.getProperty("java.version"), Runtime.getRuntime().availableProcessors(),
+                Runtime.getRuntime().maxMemory() >> 20);
+        return new Report(profile, environment, summary, Latency.of(run.all), byClientType, byCartSize, histogram);
+    }
+
+    private static void print(Report report) {
+        System.out.printf("%-24s %10s %10s %10s %10s %10s %10s%n",
+                "latency ms", "count", "p50", "p99", "p99.9", "max", "mean");
+        Map<String, Latency> rows = new LinkedHashMap<>();
+        rows.put("all", report.latency());
+        report.byClientType().forEach((clientType, latency) -> rows.put("client " + clientType, latency));
+        report.byCartSize().forEach((cartSizes, latency) -> rows.put("lines " + cartSizes, latency));
+        rows.forEach((name, latency) -> System.out.printf("%-24s %10d %10s %10s %10s %10s %10s%n", name,
+                latency.count(), latency.percentiles().get("p50"), latency.percentiles().get("p99"),
+                latency.percentiles().get("p99.9"), latency.max(), latency.mean()));
+        System.out.printf("%.0f req/s, statuses %s%n", report.summary().throughput(), report.summary().statuses());
+    }
+
+    private static double round(double value) {
+        return BigDecimal.valueOf(value).setScale(3, RoundingMode.HALF_UP).doubleValue();
+    }
+
+    /**
+     * Measurements of one replay. Latencies are recorded in microseconds.
+     */
+    private static final class Run {
+
+        private final Histogram all = new ConcurrentHistogram(3);
+        private final Map<String, Histogram> byClientType = new TreeMap<>();
+        private final Map<String, Histogram> byCartSize = new TreeMap<>();
+        private final AtomicIntegerArray statuses = new AtomicIntegerArray(600);
+        private final AtomicLong unexpected = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private long elapsedNanos;
+
+        Run(LoadProfile profile) {
+            profile.clients().keySet().forEach(clientType -> byClientType.put(clientType, new ConcurrentHistogram(3)));
+            profile.cartSizes().keySet().forEach(cartSizes -> byCartSize.put(cartSizes, new ConcurrentHistogram(3)));
+        }
+
+        void record(CartPayloadGenerator.Payload payload, int status, long nanos) {
+            long micros = Math.max(1, nanos / 1_000);
+            all.recordValue(micros);
+            byClientType.get(payload.clientType()).recordValue(micros);
+            byCartSize.get(payload.cartSizes()).recordValue(micros);
+            if (status < 0) {
+                failures.incrementAndGet();
+                return;
+            }
+            statuses.incrementAndGet(Math.min(status, statuses.length() - 1));
+            if (status != payload.expectedStatus()) {
+                unexpected.incrementAndGet();
+            }
+        }
+    }
+
+    record Report(LoadProfile profile, Environment environment, Summary summary, Latency latency,
+                  Map<String, Latency> byClientType, Map<String, Latency> byCartSize, String histogram) {
+    }
+
+    record Environment(String java, int processors, long maxHeapMegabytes) {
+    }
+
+    record Summary(long requests, double durationSeconds, double throughput, Map<String, Integer> statuses,
+                   long unexpected, long failures) {
+    }
+
+    /**
+     * Latency percentiles in milliseconds.
+     */
+    record Latency(long count, double mean, double max, Map<String, Double> percentiles) {
+
+        static Latency of(Histogram histogram) {
+            Map<String, Double> percentiles = new LinkedHashMap<>();
+            for (double percentile : PERCENTILES) {
+                String name = "p" + BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString();
+                percentiles.put(name, millis(histogram.getValueAtPercentile(percentile)));
+            }
+            return new Latency(histogram.getTotalCount(), round(histogram.getMean() / 1_000),
+                    millis(histogram.getMaxValue()), percentiles);
+        }
+
+        private static double millis(long micros) {
+            return round(micros / 1_000.0);
+        }
+    }
+}
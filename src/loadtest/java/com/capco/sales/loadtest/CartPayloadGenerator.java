@@ -0,0 +1,150 @@
+package com.capco.sales.loadtest;
+
+import com.capco.sales.TestDataFactory;
+import com.capco.sales.dto.CartItemDto;
+import com.capco.sales.dto.ShoppingCartRequest;
+import com.capco.sales.model.Client;
+import com.capco.sales.model.IndividualClient;
+import com.capco.sales.model.ProductType;
+import com.capco.sales.model.ProfessionalClient;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Seeded generator of shopping cart payloads, built from the clients of {@link TestDataFactory}.
+ * The same profile always yields the same payloads in the same order.
+ */
+final class CartPayloadGenerator {
+
+    private static final ProductType[] PRODUCT_TYPES = ProductType.values();
+
+    /** Ways of breaking a cart, each rejected by the validation of the cart API. */
+    private static final int INVALID_KINDS = 5;
+
+    private final Random random;
+    private final WeightedChoice clientTypes;
+    private final WeightedChoice cartSizes;
+    private final double errorRate;
+    private final ObjectMapper objectMapper;
+
+    CartPayloadGenerator(LoadProfile profile, ObjectMapper objectMapper) {
+        this.random = new Random(profile.seed());
+        this.clientTypes = new WeightedChoice(profile.clients());
+        this.cartSizes = new WeightedChoice(profile.cartSizes());
+        this.errorRate = profile.errorRate();
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * A generated request body.
+     *
+     * @param body the JSON body
+     * @param clientType the client type it was generated for
+     * @param cartSizes the cart size range it was generated for
+     * @param expectedStatus the status the cart API must answer with
+     */
+    record Payload(byte[] body, String clientType, String cartSizes, int expectedStatus) {
+    }
+
+    List<Payload> generate(int count) throws JsonProcessingException {
+        List<Payload> payloads = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String clientType = clientTypes.next(random);
+            String sizes = cartSizes.next(random);
+            ShoppingCartRequest request = new ShoppingCartRequest(client(clientType, i), items(sizes));
+            boolean valid = random.nextDouble() >= errorRate;
+            if (!valid) {
+                request = invalidate(request);
+            }
+            payloads.add(new Payload(objectMapper.writeValueAsBytes(request), clientType, sizes, valid ? 200 : 400));
+        }
+        return payloads;
+    }
+
+    private static Client client(String clientType, int index) {
+        return switch (clientType) {
+            case "INDIVIDUAL" -> {
+                IndividualClient client = TestDataFactory.createIndividualClient();
+                yield new IndividualClient(client.clientId() + "-" + index, client.firstName(), client.lastName());
+            }
+            case "PROFESSIONAL_HIGH", "PROFESSIONAL_LOW" -> {
+                ProfessionalClient client = clientType.equals("PROFESSIONAL_HIGH")
+                        ? TestDataFactory.createProfessionalClientHighRevenue()
+                        : TestDataFactory.createProfessionalClientLowRevenue();
+                yield new ProfessionalClient(client.clientId() + "-" + index, client.companyName(),
+                        client.vatNumber(), client.registrationNumber(), client.annualRevenue());
+            }
+            default -> throw new IllegalArgumentException("Unknown client type: " + clientType);
+        };
+    }
+
+    private List<CartItemDto> items(String sizes) {
+        int separator = sizes.indexOf('-');
+        int min = Integer.parseInt(separator < 0 ? sizes : sizes.substring(0, separator));
+        int max = separator < 0 ? min : Integer.parseInt(sizes.substring(separator + 1));
+        int size = min + random.nextInt(max - min + 1);
+
+        List<CartItemDto> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(new CartItemDto(PRODUCT_TYPES[random.nextInt(PRODUCT_TYPES.length)], 1 + random.nextInt(10)));
+        }
+        return items;
+    }
+
+    private ShoppingCartRequest invalidate(ShoppingCartRequest request) {
+        List<CartItemDto> items = new ArrayList<>(request.items());
+        return switch (random.nextInt(INVALID_KINDS)) {
+            case 0 -> new ShoppingCartRequest(null, items);
+            case 1 -> new ShoppingCartRequest(request.client(), List.of());
+            case 2 -> {
+                items.set(random.nextInt(items.size()), new CartItemDto(PRODUCT_TYPES[0], 0));
+                yield new ShoppingCartRequest(request.client(), items);
+            }
+            case 3 -> {
+                items.set(random.nextInt(items.size()), new CartItemDto(null, 1));
+                yield new ShoppingCartRequest(request.client(), items);
+            }
+            default -> new ShoppingCartRequest(request.client() instanceof ProfessionalClient client
+                    ? new ProfessionalClient(client.clientId(), client.companyName(), client.vatNumber(),
+                            client.registrationNumber(), BigDecimal.ONE.negate())
+                    : new IndividualClient(" ", "John", "Doe"), items);
+        };
+    }
+
+    /**
+     * Weighted random choice among values.
+     */
+    private static final class WeightedChoice {
+
+        private final String[] values;
+        private final int[] cumulativeWeights;
+
+        WeightedChoice(Map<String, Integer> weights) {
+            values = weights.keySet().toArray(String[]::new);
+            cumulativeWeights = new int[values.length];
+            int total = 0;
+            for (int i = 0; i < values.length; i++) {
+                total += weights.get(values[i]);
+                cumulativeWeights[i] = total;
+            }
+            if (total <= 0) {
+                throw new IllegalArgumentException("Weights must add up to more than 0: " + weights);
+            }
+        }
+
+        String next(Random random) {
+            int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            int i = 0;
+            while (cumulativeWeights[i] <= pick) {
+                i++;
+            }
+            return values[i];
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.capco.sales.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Configuration of a load run, parsed from {@code key=value} arguments.
+ * Every argument has a default, so a run is fully described by its profile and reproducible from it.
+ *
+ * @param seed seed of the payload generator
+ * @param payloads number of distinct payloads generated, replayed in a fixed order
+ * @param requests number of measured requests
+ * @param warmup number of requests sent before measuring
+ * @param concurrency maximum number of requests in flight
+ * @param rate target request rate per second, or {@code 0} to send as fast as {@code concurrency} allows
+ * @param clients weights of the client types, e.g. {@code INDIVIDUAL:50,PROFESSIONAL_HIGH:25,PROFESSIONAL_LOW:25}
+ * @param cartSizes weights of the cart size ranges, e.g. {@code 1-5:80,100-1000:20}
+ * @param errorRate fraction of invalid payloads, which the API must reject with 400
+ * @param endpoint path of the cart API
+ * @param report path of the JSON report
+ * @param appProperties application properties, given as {@code app.<name>=<value>} arguments
+ */
+record LoadProfile(long seed, int payloads, int requests, int warmup, int concurrency, int rate,
+                   Map<String, Integer> clients, Map<String, Integer> cartSizes, double errorRate,
+                   String endpoint, String report, Map<String, String> appProperties) {
+
+    private static final String APP_PREFIX = "app.";
+
+    static LoadProfile parse(String[] args) {
+        Map<String, String> arguments = Arguments.parse(args);
+        Map<String, String> appProperties = new TreeMap<>();
+        arguments.forEach((key, value) -> {
+            if (key.startsWith(APP_PREFIX)) {
+                appProperties.put(key.substring(APP_PREFIX.length()), value);
+            }
+        });
+
+        LoadProfile profile = new LoadProfile(
+                Long.parseLong(arguments.getOrDefault("seed", "42")),
+                Integer.parseInt(arguments.getOrDefault("payloads", "1000")),
+                Integer.parseInt(arguments.getOrDefault("requests", "20000")),
+                Integer.parseInt(arguments.getOrDefault("warmup", "5000")),
+                Integer.parseInt(arguments.getOrDefault("concurrency", "64")),
+                Integer.parseInt(arguments.getOrDefault("rate", "0")),
+                weights(arguments.getOrDefault("clients", "INDIVIDUAL:50,PROFESSIONAL_HIGH:25,PROFESSIONAL_LOW:25")),
+                weights(arguments.getOrDefault("cartSizes", "1-5:70,6-50:25,51-1000:4,1001-20000:1")),
+                Double.parseDouble(arguments.getOrDefault("errorRate", "0.02")),
+                arguments.getOrDefault("endpoint", "/api/v1/cart/calculate"),
+                arguments.getOrDefault("report", "target/loadtest-report.json"),
+                appProperties
+        );
+        if (profile.payloads < 1 || profile.requests < 1 || profile.concurrency < 1 || profile.rate < 0
+                || profile.errorRate < 0 || profile.errorRate > 1) {
+            throw new IllegalArgumentException("Invalid load profile: " + profile);
+        }
+        return profile;
+    }
+
+    private static Map<String, Integer> weights(String spec) {
+        Map<String, Integer> weights = new TreeMap<>();
+        for (String entry : spec.split(",")) {
+            int separator = entry.lastIndexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected value:weight entry: " + entry);
+            }
+            weights.put(entry.substring(0, separator).trim(), Integer.parseInt(entry.substring(separator + 1).trim()));
+        }
+        return weights;
+    }
+}
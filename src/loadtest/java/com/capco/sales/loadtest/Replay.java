@@ -0,0 +1,92 @@
+package com.capco.sales.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+
+/**
+ * Replays JSON POST requests against an endpoint from virtual threads.
+ * <p>
+ * At most {@code concurrency} requests are in flight. With a target {@code rate}, request {@code i} is scheduled
+ * at {@code i / rate} seconds and timed from that scheduled send time rather than its actual one, so that a
+ * stalled server is not hidden by the requests the generator did not get to send (coordinated omission).
+ * Without a rate, requests are sent as fast as the concurrency allows and timed from their actual send time.
+ */
+final class Replay {
+
+    private Replay() {
+    }
+
+    /**
+     * Receives the outcome of every request, from the thread that sent it.
+     */
+    @FunctionalInterface
+    interface Recorder {
+
+        /**
+         * @param index the index of the request in the replay
+         * @param status the response status, or {@code -1} if the request failed
+         * @param nanos the latency of the request
+         */
+        void record(int index, int status, long nanos);
+    }
+
+    /**
+     * Sends the requests and waits for every response.
+     *
+     * @param uri the endpoint
+     * @param requests the number of requests
+     * @param concurrency the maximum number of requests in flight
+     * @param rate the target request rate per second, or {@code 0} to send as fast as {@code concurrency} allows
+     * @param bodies the JSON body of each request, by index
+     * @param recorder the recorder of the outcomes
+     * @return the elapsed time in nanoseconds
+     * @throws InterruptedException if interrupted while waiting
+     */
+    static long run(URI uri, int requests, int concurrency, int rate, IntFunction<byte[]> bodies, Recorder recorder)
+            throws InterruptedException {
+        Semaphore inFlight = new Semaphore(concurrency);
+        long interval = rate > 0 ? 1_000_000_000L / rate : 0;
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                                          .version(HttpClient.Version.HTTP_1_1)
+                                          .executor(executor)
+                                          .build();
+            for (int i = 0; i < requests; i++) {
+                int index = i;
+                HttpRequest request = HttpRequest.newBuilder(uri)
+                                                 .header("Content-Type", "application/json")
+                                                 .POST(HttpRequest.BodyPublishers.ofByteArray(bodies.apply(i)))
+                                                 .build();
+                long scheduled = start + i * interval;
+                for (long wait = scheduled - System.nanoTime(); wait > 0; wait = scheduled - System.nanoTime()) {
+                    LockSupport.parkNanos(wait);
+                }
+                inFlight.acquire();
+                long sent = interval > 0 ? scheduled : System.nanoTime();
+                executor.execute(() -> {
+                    int status = -1;
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        status = response.statusCode();
+                    } catch (Exception ex) {
+                        // reported as a failure
+                    } finally {
+                        recorder.record(index, status, System.nanoTime() - sent);
+                        inFlight.release();
+                    }
+                });
+            }
+            inFlight.acquire(concurrency);
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,215 @@
+package com.capco.sales.loadtest;
+
+import com.capco.sales.TestDataFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup time and first-request latency of the packaged application, per launch mode.
+ * <p>
+ * Each run starts a fresh JVM (or native executable) on a free port, measures the time until
+ * {@code /actuator/health} answers, then the latency of the first cart calculation, which includes the lazy
+ * initialization left after startup. Modes:
+ * <ul>
+ *     <li>{@code jit} - the fast-start jar without AOT or CDS</li>
+ *     <li>{@code aot} - with Spring AOT initialization</li>
+ *     <li>{@code cds-aot} - with Spring AOT initialization and the CDS archive</li>
+ *     <li>{@code native} - the GraalVM native executable given by {@code native=<path>}</li>
+ * </ul>
+ * Build the jar and archive with {@code mvn -Pfast-start package} first.
+ * <p>
+ * Arguments ({@code key=value}): {@code runs} (default 5), {@code modes} (default {@code jit,aot,cds-aot}, plus
+ * {@code native} when its path is given), {@code dir} (default {@code target/fast-start}), {@code native},
+ * {@code report} (default {@code target/startup-report.json}) and {@code budget.<mode>}, a maximum median startup
+ * time in milliseconds: the run fails when a mode exceeds its budget, so regressions are caught.
+ */
+public final class StartupBenchmark {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final String JSA = "capco-sales.jsa";
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> arguments = Arguments.parse(args);
+        int runs = Integer.parseInt(arguments.getOrDefault("runs", "5"));
+        Path dir = Path.of(arguments.getOrDefault("dir", "target/fast-start"));
+        String nativeExecutable = arguments.get("native");
+        List<String> modes = List.of(arguments.getOrDefault("modes",
+                nativeExecutable != null ? "jit,aot,cds-aot,native" : "jit,aot,cds-aot").split(","));
+        Path report = Path.of(arguments.getOrDefault("report", "target/startup-report.json"));
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        byte[] payload = objectMapper.writeValueAsBytes(TestDataFactory.createShoppingCartRequestIndividual());
+        HttpClient client = HttpClient.newBuilder()
+                                      .version(HttpClient.Version.HTTP_1_1)
+                                      .connectTimeout(Duration.ofSeconds(1))
+                                      .build();
+
+        Map<String, ModeResult> results = new LinkedHashMap<>();
+        for (String mode : modes) {
+            List<String> command = command(mode, dir, nativeExecutable);
+            long[] startup = new long[runs];
+            long[] firstRequest = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                long[] measured = measure(command, client, payload);
+                startup[run] = measured[0];
+                firstRequest[run] = measured[1];
+            }
+            results.put(mode, new ModeResult(runs, Stats.of(startup), Stats.of(firstRequest)));
+        }
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("arguments", arguments);
+        document.put("environment", Map.of(
+                "java", System.getProperty("java.vm.name") + " " + System.getProperty("java.version"),
+                "processors", Runtime.getRuntime().availableProcessors()));
+        document.put("modes", results);
+        if (report.getParent() != null) {
+            Files.createDirectories(report.getParent());
+        }
+        objectMapper.copy()
+                    .enable(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(report.toFile(), document);
+
+        System.out.printf("%-10s %6s %14s %14s %14s %14s%n",
+                "mode", "runs", "startup p50", "startup max", "first req p50", "first req max");
+        List<String> overBudget = new ArrayList<>();
+        results.forEach((mode, result) -> {
+            System.out.printf("%-10s %6d %11d ms %11d ms %11d ms %11d ms%n", mode, result.runs(),
+                    result.startupMillis().median(), result.startupMillis().max(),
+                    result.firstRequestMillis().median(), result.firstRequestMillis().max());
+            String budget = arguments.get("budget." + mode);
+            if (budget != null && result.startupMillis().median() > Long.parseLong(budget)) {
+                overBudget.add(mode + " (" + result.startupMillis().median() + " ms > " + budget + " ms)");
+            }
+        });
+        System.out.println("Report written to " + report.toAbsolutePath());
+        if (!overBudget.isEmpty()) {
+            System.err.println("Startup over budget: " + String.join(", ", overBudget));
+            System.exit(1);
+        }
+    }
+
+    private static List<String> command(String mode, Path dir, String nativeExecutable) throws IOException {
+        if (mode.equals("native")) {
+            if (nativeExecutable == null) {
+                throw new IllegalArgumentException("The native mode needs native=<path of the executable>");
+            }
+            return new ArrayList<>(List.of(Path.of(nativeExecutable).toAbsolutePath().toString()));
+        }
+
+        Path jar;
+        try (var files = Files.list(dir)) {
+            jar = files.filter(file -> file.getFileName().toString().endsWith("-fast-start.jar"))
+                       .findFirst()
+                       .orElseThrow(() -> new IllegalStateException("No fast-start jar in " + dir
+                               + ", run mvn -Pfast-start package first"));
+        }
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        switch (mode) {
+            case "jit" -> {
+                // plain JVM launch
+            }
+            case "aot" -> command.add("-Dspring.aot.enabled=true");
+            case "cds-aot" -> {
+                command.add("-XX:SharedArchiveFile=" + dir.resolve(JSA).toAbsolutePath());
+                command.add("-Dspring.aot.enabled=true");
+            }
+            default -> throw new IllegalArgumentException("Unknown mode: " + mode);
+        }
+        command.add("-jar");
+        command.add(jar.toAbsolutePath().toString());
+        return command;
+    }
+
+    /**
+     * @return the startup time and the first request latency, in milliseconds
+     */
+    private static long[] measure(List<String> command, HttpClient client, byte[] payload) throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        List<String> launch = new ArrayList<>(command);
+        launch.add("--server.port=" + port);
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(launch)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            HttpRequest health = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health"))
+                                            .GET()
+                                            .build();
+            while (!isUp(client, health)) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited with " + process.exitValue() + ": "
+                            + String.join(" ", launch));
+                }
+                if (System.nanoTime() - start > STARTUP_TIMEOUT.toNanos()) {
+                    throw new IllegalStateException("Application not up after " + STARTUP_TIMEOUT);
+                }
+                Thread.sleep(5);
+            }
+            long startup = System.nanoTime() - start;
+
+            HttpRequest calculate = HttpRequest.newBuilder(
+                                                       URI.create("http://localhost:" + port + "/api/v1/cart/calculate"))
+                                               .header("Content-Type", "application/json")
+                                               .POST(HttpRequest.BodyPublishers.ofByteArray(payload))
+                                               .build();
+            long sent = System.nanoTime();
+            HttpResponse<Void> response = client.send(calculate, HttpResponse.BodyHandlers.discarding());
+            long firstRequest = System.nanoTime() - sent;
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("First request failed with status " + response.statusCode());
+            }
+            return new long[]{TimeUnit.NANOSECONDS.toMillis(startup), TimeUnit.NANOSECONDS.toMillis(firstRequest)};
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static boolean isUp(HttpClient client, HttpRequest health) throws InterruptedException {
+        try {
+            return client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException notListening) {
+            return false;
+        }
+    }
+
+    record ModeResult(int runs, Stats startupMillis, Stats firstRequestMillis) {
+    }
+
+    record Stats(long min, long median, long max) {
+
+        static Stats of(long[] values) {
+            long[] sorted = values.clone();
+            Arrays.sort(sorted);
+            return new Stats(sorted[0], sorted[sorted.length / 2], sorted[sorted.length - 1]);
+        }
+    }
+}
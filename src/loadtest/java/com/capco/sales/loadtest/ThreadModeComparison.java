@@ -0,0 +1,99 @@
+package com.capco.sales.loadtest;
+
+import com.capco.sales.SalesApplication;
+import com.capco.sales.TestDataFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares the cart API on Tomcat platform threads and on virtual threads at high concurrency.
+ * Starts the application once per mode on a random port and replays the same load against it.
+ * <p>
+ * Requests are sent at a fixed {@code rate} and timed from their scheduled send time (see {@link Replay}), so the
+ * queueing of a saturated thread pool shows in the latencies instead of slowing the generator down. The client
+ * runs in the same JVM as the server and competes with it for CPU: compare the modes with each other, and use
+ * {@link CartLoadGenerator} against a dedicated machine for absolute capacity.
+ * <p>
+ * Arguments ({@code key=value}): {@code concurrency} (default 512), {@code rate} in requests per second
+ * (default 2000, {@code 0} to send as fast as {@code concurrency} allows), {@code requests} (default 50000),
+ * {@code warmup} (default 10000), {@code tomcatThreads} (default: Spring Boot's 200).
+ */
+public final class ThreadModeComparison {
+
+    private static final String API_ENDPOINT = "/api/v1/cart/calculate";
+
+    private ThreadModeComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> arguments = Arguments.parse(args);
+        int concurrency = Integer.parseInt(arguments.getOrDefault("concurrency", "512"));
+        int rate = Integer.parseInt(arguments.getOrDefault("rate", "2000"));
+        int requests = Integer.parseInt(arguments.getOrDefault("requests", "50000"));
+        int warmup = Integer.parseInt(arguments.getOrDefault("warmup", "10000"));
+        String tomcatThreads = arguments.get("tomcatThreads");
+
+        byte[] payload = new ObjectMapper().writeValueAsBytes(TestDataFactory.createShoppingCartRequestIndividual());
+
+        System.out.printf("%-10s %10s %12s %10s %10s %10s %10s %8s%n",
+                "mode", "requests", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "errors");
+        for (boolean virtual : new boolean[]{false, true}) {
+            SpringApplicationBuilder builder = new SpringApplicationBuilder(SalesApplication.class)
+                    .properties(
+                            "server.port=0",
+                            "spring.threads.virtual.enabled=" + virtual,
+                            "capco.cart.quote-cache.enabled=false",
+                            "spring.main.banner-mode=off",
+                            "logging.level.root=WARN"
+                    );
+            if (tomcatThreads != null) {
+                builder.properties("server.tomcat.threads.max=" + tomcatThreads);
+            }
+
+            try (ConfigurableApplicationContext app = builder.run()) {
+                URI uri = URI.create("http://localhost:" + app.getEnvironment().getProperty("local.server.port")
+                        + API_ENDPOINT);
+                run(uri, payload, concurrency, rate, warmup);
+                Result result = run(uri, payload, concurrency, rate, requests);
+                System.out.printf("%-10s %10d %12.0f %10.2f %10.2f %10.2f %10.2f %8d%n",
+                        virtual ? "virtual" : "platform", requests, result.throughput(),
+                        result.percentile(50), result.percentile(99), result.percentile(99.9),
+                        result.latencies().getMaxValue() / 1e3, result.errors());
+            }
+        }
+    }
+
+    private static Result run(URI uri, byte[] payload, int concurrency, int rate, int requests)
+            throws InterruptedException {
+        Histogram latencies = new ConcurrentHistogram(3);
+        AtomicInteger errors = new AtomicInteger();
+        long elapsed = Replay.run(uri, requests, concurrency, rate, i -> payload, (i, status, nanos) -> {
+            latencies.recordValue(Math.max(1, nanos / 1_000));
+            if (status != 200) {
+                errors.incrementAndGet();
+            }
+        });
+        return new Result(latencies, elapsed, errors.get());
+    }
+
+    /**
+     * Measurements of one replay. Latencies are recorded in microseconds.
+     */
+    private record Result(Histogram latencies, long elapsedNanos, int errors) {
+
+        double throughput() {
+            return latencies.getTotalCount() * 1e9 / elapsedNanos;
+        }
+
+        double percentile(double percentile) {
+            return latencies.getValueAtPercentile(percentile) / 1e3;
+        }
+    }
+}
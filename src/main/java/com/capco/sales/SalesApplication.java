@@ -1,9 +1,14 @@
 package com.capco.sales;
 
+import com.capco.sales.config.CartRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
+@ImportRuntimeHints(CartRuntimeHints.class)
 public class SalesApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,212 @@
+package com.capco.sales.catalog;
+
+import com.capco.sales.model.ProductType;
+import com.capco.sales.pricing.PriceTable;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Immutable off-heap index of the prices negotiated by clients.
+ * <p>
+ * Clients are stored in an open-addressing hash table held in a direct buffer: each slot holds the client id
+ * hash, the position and length of the id in a separate direct buffer of UTF-16 chars, the scales of the prices
+ * packed in an {@code int}, then one {@code long} cent price per {@link ProductType} ordinal, {@link #NO_PRICE}
+ * when the client pays the price of its tier. Tens of thousands of price lists therefore cost a few dozen bytes
+ * each outside the heap, instead of one map and several {@link BigDecimal}s each on it, and {@link #find} and
+ * {@link #unitCents} allocate nothing.
+ */
+public final class NegotiatedPriceIndex {
+
+    /** Price of a product without negotiated price. */
+    public static final long NO_PRICE = Long.MIN_VALUE;
+
+    private static final int PRODUCT_COUNT = ProductType.values().length;
+    private static final int SCALE_BITS = 2;
+    private static final int MAX_SCALE = 2;
+
+    private static final int HASH = 0;
+    private static final int KEY_OFFSET = 4;
+    private static final int KEY_LENGTH = 8;
+    private static final int SCALES = 12;
+    private static final int PRICES = 16;
+    private static final int SLOT_SIZE = PRICES + PRODUCT_COUNT * Long.BYTES;
+
+    /** Index without any negotiated price. */
+    public static final NegotiatedPriceIndex EMPTY = of(Map.of());
+
+    private final ByteBuffer slots;
+    private final ByteBuffer keys;
+    private final int mask;
+    private final int size;
+
+    private NegotiatedPriceIndex(ByteBuffer slots, ByteBuffer keys, int mask, int size) {
+        this.slots = slots;
+        this.keys = keys;
+        this.mask = mask;
+        this.size = size;
+    }
+
+    /**
+     * Builds an index.
+     *
+     * @param prices the negotiated prices per client id, indexed by product type ordinal; {@code null} elements
+     *               are products without negotiated price
+     * @return the index
+     * @throws IllegalArgumentException if a price is negative or has more than two decimals
+     */
+    public static NegotiatedPriceIndex of(Map<String, BigDecimal[]> prices) {
+        // at most half full, so that probe sequences stay short and always reach an empty slot
+        int capacity = Integer.highestOneBit(Math.max(1, prices.size()) * 2 - 1) << 1;
+        long slotBytes = (long) capacity * SLOT_SIZE;
+        long keyBytes = prices.keySet().stream().mapToLong(clientId -> (long) clientId.length() * Character.BYTES).sum();
+        if (slotBytes > Integer.MAX_VALUE || keyBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many negotiated prices: " + prices.size() + " clients");
+        }
+
+        ByteBuffer slots = ByteBuffer.allocateDirect((int) slotBytes).order(ByteOrder.nativeOrder());
+        ByteBuffer keys = ByteBuffer.allocateDirect((int) Math.max(keyBytes, 1)).order(ByteOrder.nativeOrder());
+        int mask = capacity - 1;
+        int keyOffset = 0;
+        for (Map.Entry<String, BigDecimal[]> entry : prices.entrySet()) {
+            String clientId = entry.getKey();
+            if (clientId.isEmpty()) {
+                throw new IllegalArgumentException("Negotiated prices without client id");
+            }
+            int slot = spread(clientId.hashCode()) & mask;
+            while (slots.getInt(slot * SLOT_SIZE + KEY_LENGTH) != 0) {
+                slot = (slot + 1) & mask;
+            }
+
+            int base = slot * SLOT_SIZE;
+            slots.putInt(base + HASH, clientId.hashCode());
+            slots.putInt(base + KEY_OFFSET, keyOffset);
+            slots.putInt(base + KEY_LENGTH, clientId.length());
+            for (int i = 0; i < clientId.length(); i++) {
+                keys.putChar(keyOffset + i * Character.BYTES, clientId.charAt(i));
+            }
+            keyOffset += clientId.length() * Character.BYTES;
+            writePrices(slots, base, clientId, entry.getValue());
+        }
+        return new NegotiatedPriceIndex(slots, keys, mask, prices.size());
+    }
+
+    /**
+     * @param clientId the client id
+     * @return the slot of the client's prices, or {@code -1} if the client has none
+     */
+    public int find(String clientId) {
+        if (clientId == null || clientId.isEmpty()) {
+            return -1;
+        }
+        int hash = clientId.hashCode();
+        int length = clientId.length();
+        for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+            int base = slot * SLOT_SIZE;
+            int keyLength = slots.getInt(base + KEY_LENGTH);
+            if (keyLength == 0) {
+                return -1;
+            }
+            if (keyLength == length && slots.getInt(base + HASH) == hash
+                    && keyEquals(slots.getInt(base + KEY_OFFSET), clientId)) {
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * @param client the slot returned by {@link #find}, or {@code -1}
+     * @param productType the product type
+     * @return the negotiated unit price in cents, or {@link #NO_PRICE}
+     */
+    public long unitCents(int client, ProductType productType) {
+        if (client < 0) {
+            return NO_PRICE;
+        }
+        return slots.getLong(client * SLOT_SIZE + PRICES + productType.ordinal() * Long.BYTES);
+    }
+
+    /**
+     * Builds the price table of a client, for callers that price against a {@link PriceTable} rather than the index.
+     *
+     * @param client the slot returned by {@link #find}, or {@code -1}
+     * @param tierPrices the prices of the client's tier
+     * @return the client's negotiated prices, with the tier price of products without one
+     */
+    public PriceTable priceTable(int client, PriceTable tierPrices) {
+        if (client < 0) {
+            return tierPrices;
+        }
+        Map<ProductType, BigDecimal> prices = new EnumMap<>(ProductType.class);
+        for (ProductType productType : ProductType.values()) {
+            long cents = unitCents(client, productType);
+            prices.put(productType, cents == NO_PRICE
+                    ? tierPrices.unitPrice(productType)
+                    : PriceTable.toBigDecimal(cents, scale(client, productType)));
+        }
+        return PriceTable.of(prices);
+    }
+
+    /**
+     * @param client the slot returned by {@link #find}
+     * @param productType a product type with a negotiated price
+     * @return the scale the negotiated price was defined with, at most 2
+     */
+    public int scale(int client, ProductType productType) {
+        int scales = slots.getInt(client * SLOT_SIZE + SCALES);
+        return (scales >>> (productType.ordinal() * SCALE_BITS)) & ((1 << SCALE_BITS) - 1);
+    }
+
+    /**
+     * @return the number of clients with negotiated prices
+     */
+    public int size() {
+        return size;
+    }
+
+    private boolean keyEquals(int keyOffset, String clientId) {
+        for (int i = 0; i < clientId.length(); i++) {
+            if (keys.getChar(keyOffset + i * Character.BYTES) != clientId.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writePrices(ByteBuffer slots, int base, String clientId, BigDecimal[] prices) {
+        int scales = 0;
+        for (ProductType productType : ProductType.values()) {
+            BigDecimal price = productType.ordinal() < prices.length ? prices[productType.ordinal()] : null;
+            long cents = NO_PRICE;
+            if (price != null) {
+                if (price.signum() < 0) {
+                    throw new IllegalArgumentException("Negative " + productType + " price for client " + clientId);
+                }
+                BigDecimal normalized = price.scale() < 0 ? price.setScale(0) : price;
+                if (normalized.scale() > MAX_SCALE) {
+                    normalized = normalized.stripTrailingZeros();
+                }
+                try {
+                    if (normalized.scale() > MAX_SCALE) {
+                        throw new ArithmeticException("Sub-cent price");
+                    }
+                    cents = normalized.movePointRight(2).longValueExact();
+                } catch (ArithmeticException ex) {
+                    throw new IllegalArgumentException(productType + " price " + price + " of client " + clientId
+                            + " is not a whole cent amount within range", ex);
+                }
+                int scale = Math.max(normalized.scale(), 0);
+                scales |= scale << (productType.ordinal() * SCALE_BITS);
+            }
+            slots.putLong(base + PRICES + productType.ordinal() * Long.BYTES, cents);
+        }
+        slots.putInt(base + SCALES, scales);
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,95 @@
+package com.capco.sales.catalog;
+
+import com.capco.sales.config.NegotiatedPriceProperties;
+import com.capco.sales.model.ProductType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Prices negotiated by clients, loaded from a local CSV file and reloaded when the file changes.
+ * <p>
+ * Each line of the file is {@code clientId,productType,price}, e.g. {@code PRO001,LAPTOP,850}; blank lines and
+ * lines starting with {@code #} are ignored. Products without negotiated price keep the price of the client's
+ * tier. Each load is compiled into an immutable off-heap {@link NegotiatedPriceIndex}, published and polled for
+ * changes as described by {@link ReloadingFile}.
+ */
+@Component
+public class NegotiatedPrices {
+
+    private static final ProductType[] PRODUCT_TYPES = ProductType.values();
+
+    private final ReloadingFile<NegotiatedPriceIndex> file;
+
+    public NegotiatedPrices(NegotiatedPriceProperties properties) {
+        this.file = new ReloadingFile<>("negotiated prices", properties.getPath(), properties.getPollInterval(),
+                NegotiatedPriceIndex.EMPTY, (path, current) -> NegotiatedPriceIndex.of(load(path)),
+                index -> index.size() + " clients", index -> {
+                });
+    }
+
+    /**
+     * @return the index currently in use; read it once per request
+     */
+    public NegotiatedPriceIndex index() {
+        return file.value();
+    }
+
+    /**
+     * Reloads the negotiated price file if it changed since the last successful load.
+     *
+     * @return whether a new index was published
+     */
+    public boolean reloadIfChanged() {
+        return file.reloadIfChanged();
+    }
+
+    @PostConstruct
+    void startPolling() {
+        file.startPolling();
+    }
+
+    @PreDestroy
+    void stopPolling() {
+        file.stopPolling();
+    }
+
+    private static Map<String, BigDecimal[]> load(Path path) throws IOException {
+        Map<String, BigDecimal[]> prices = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(path)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+
+                String[] fields = line.split(",", -1);
+                if (fields.length != 3 || fields[0].isBlank()) {
+                    throw new IllegalArgumentException("Line " + lineNumber + ": expected clientId,productType,price");
+                }
+                ProductType productType;
+                BigDecimal price;
+                try {
+                    productType = ProductType.valueOf(fields[1].strip());
+                    price = new BigDecimal(fields[2].strip());
+                } catch (IllegalArgumentException ex) {
+                    throw new IllegalArgumentException("Line " + lineNumber + ": " + ex.getMessage(), ex);
+                }
+                prices.computeIfAbsent(fields[0].strip(), clientId -> new BigDecimal[PRODUCT_TYPES.length])
+                        [productType.ordinal()] = price;
+            }
+        }
+        return prices;
+    }
+}
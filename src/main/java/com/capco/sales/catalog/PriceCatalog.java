@@ -0,0 +1,114 @@
+package com.capco.sales.catalog;
+
+import com.capco.sales.config.PriceCatalogProperties;
+import com.capco.sales.model.ProductType;
+import com.capco.sales.pricing.PriceTable;
+import com.capco.sales.pricing.PricingStrategy;
+import com.capco.sales.pricing.PricingStrategyResolver;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Price catalog loaded from a local JSON file and reloaded when the file changes.
+ * <p>
+ * The file maps pricing tiers to unit prices, e.g.
+ * {@code {"tiers": {"INDIVIDUAL": {"HIGH_END_PHONE": 1500, "MID_RANGE_PHONE": 800, "LAPTOP": 1200}}}};
+ * tiers that are not listed keep their built-in prices, and tiers that no pricing strategy applies are rejected.
+ * Each load is compiled into an immutable {@link PriceCatalogSnapshot} of array-indexed {@link PriceTable}s,
+ * published and polled for changes as described by {@link ReloadingFile}.
+ */
+@Component
+public class PriceCatalog {
+
+    private static final TypeReference<Map<String, Map<String, Map<ProductType, BigDecimal>>>> CATALOG_TYPE =
+            new TypeReference<>() {
+            };
+
+    private final ObjectMapper objectMapper;
+    private final PricingStrategyResolver strategyResolver;
+    private final ReloadingFile<PriceCatalogSnapshot> file;
+
+    public PriceCatalog(PriceCatalogProperties properties, ObjectMapper objectMapper,
+                        PricingStrategyResolver strategyResolver, ApplicationEventPublisher eventPublisher) {
+        this.objectMapper = objectMapper;
+        this.strategyResolver = strategyResolver;
+        this.file = new ReloadingFile<>("price catalog", properties.getPath(), properties.getPollInterval(),
+                PriceCatalogSnapshot.builtIn(), this::load,
+                snapshot -> "version " + snapshot.version() + ", tiers " + snapshot.priceTables().keySet(),
+                snapshot -> eventPublisher.publishEvent(new PriceCatalogReloadedEvent(snapshot)));
+    }
+
+    /**
+     * @return the snapshot currently in use; read it once per request
+     */
+    public PriceCatalogSnapshot snapshot() {
+        return file.value();
+    }
+
+    /**
+     * @param strategy the resolved pricing strategy
+     * @return the current price table of the strategy's tier
+     */
+    public PriceTable priceTable(PricingStrategy strategy) {
+        return file.value().priceTable(strategy);
+    }
+
+    /**
+     * Reloads the catalog file if it changed since the last successful load.
+     *
+     * @return whether a new snapshot was published
+     */
+    public boolean reloadIfChanged() {
+        return file.reloadIfChanged();
+    }
+
+    @PostConstruct
+    void startPolling() {
+        file.startPolling();
+    }
+
+    @PreDestroy
+    void stopPolling() {
+        file.stopPolling();
+    }
+
+    private PriceCatalogSnapshot load(Path path, PriceCatalogSnapshot current) throws IOException {
+        Map<String, Map<String, Map<ProductType, BigDecimal>>> catalog;
+        try (InputStream in = Files.newInputStream(path)) {
+            catalog = objectMapper.readValue(in, CATALOG_TYPE);
+        }
+
+        Map<String, Map<ProductType, BigDecimal>> tiers = catalog != null ? catalog.get("tiers") : null;
+        if (tiers == null) {
+            throw new IllegalArgumentException("Missing \"tiers\" object");
+        }
+
+        Map<String, PriceTable> priceTables = new HashMap<>();
+        tiers.forEach((tier, prices) -> {
+            strategyResolver.forTier(tier);
+            if (prices == null) {
+                throw new IllegalArgumentException("Missing prices for tier " + tier);
+            }
+            for (ProductType productType : ProductType.values()) {
+                BigDecimal price = prices.get(productType);
+                if (price == null || price.signum() < 0) {
+                    throw new IllegalArgumentException("Missing or negative " + productType + " price for tier " + tier);
+                }
+            }
+            priceTables.put(tier, PriceTable.of(prices));
+        });
+        return new PriceCatalogSnapshot(current.version() + 1, Map.copyOf(priceTables));
+    }
+}
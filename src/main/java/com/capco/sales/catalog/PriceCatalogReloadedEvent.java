@@ -0,0 +1,9 @@
+package com.capco.sales.catalog;
+
+/**
+ * Published after a new price catalog snapshot has been installed.
+ *
+ * @param snapshot the snapshot now in use
+ */
+public record PriceCatalogReloadedEvent(PriceCatalogSnapshot snapshot) {
+}
@@ -0,0 +1,33 @@
+package com.capco.sales.catalog;
+
+import com.capco.sales.pricing.PriceTable;
+import com.capco.sales.pricing.PricingStrategy;
+
+import java.util.Map;
+
+/**
+ * Immutable set of price tables published by the {@link PriceCatalog}.
+ * A request reads the snapshot once, so all its lines are priced against the same prices
+ * even if a reload happens meanwhile.
+ *
+ * @param version increasing version, starting at 0 for the built-in prices
+ * @param priceTables price tables keyed by pricing tier; tiers not listed use the strategy's built-in prices
+ */
+public record PriceCatalogSnapshot(long version, Map<String, PriceTable> priceTables) {
+
+    /**
+     * @return a snapshot serving the built-in prices of every strategy
+     */
+    public static PriceCatalogSnapshot builtIn() {
+        return new PriceCatalogSnapshot(0, Map.of());
+    }
+
+    /**
+     * @param strategy the resolved pricing strategy
+     * @return the price table of the strategy's tier
+     */
+    public PriceTable priceTable(PricingStrategy strategy) {
+        PriceTable priceTable = priceTables.get(strategy.tier());
+        return priceTable != null ? priceTable : strategy.priceTable();
+    }
+}
@@ -0,0 +1,139 @@
+package com.capco.sales.catalog;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Immutable value loaded from a local file and reloaded when the file changes.
+ * <p>
+ * The file is considered changed when its modification time or size differs from the last successful load. Each
+ * load builds a new value that is published with a single volatile write, so readers never block and never see a
+ * partially loaded file. The file is loaded once on construction, which fails if it cannot be, so the application
+ * does not start with a broken file; it is then polled by a dedicated background thread. Later, an invalid file,
+ * or any other failure to load it, is logged and the previous value stays in use, so the poller keeps running.
+ * Without a path, the initial value is kept and nothing is polled.
+ *
+ * @param <T> the type of the loaded value
+ */
+@Slf4j
+final class ReloadingFile<T> {
+
+    /**
+     * Builds the value of a file.
+     *
+     * @param <T> the type of the loaded value
+     */
+    @FunctionalInterface
+    interface Loader<T> {
+
+        /**
+         * @param path the file to load
+         * @param current the value currently in use
+         * @return the new value
+         * @throws IOException if the file cannot be read
+         * @throws RuntimeException if the file is invalid
+         */
+        T load(Path path, T current) throws IOException;
+    }
+
+    private final String name;
+    private final Path path;
+    private final Duration pollInterval;
+    private final Loader<T> loader;
+    private final Function<T, String> description;
+    private final Consumer<T> onReload;
+
+    private volatile T value;
+    private FileTime loadedModifiedTime;
+    private long loadedSize;
+    private ScheduledExecutorService poller;
+
+    /**
+     * @param name what the file holds, for logs and the poller thread name, e.g. {@code price catalog}
+     * @param path the file, or {@code null} to keep the initial value
+     * @param pollInterval the delay between two checks of the file
+     * @param initial the value in use until the file is loaded
+     * @param loader builds the value of the file
+     * @param description describes a value in logs, e.g. {@code 12 clients}
+     * @param onReload called with each new value once it is published
+     * @throws IllegalStateException if the file cannot be loaded
+     */
+    ReloadingFile(String name, Path path, Duration pollInterval, T initial, Loader<T> loader,
+                  Function<T, String> description, Consumer<T> onReload) {
+        this.name = name;
+        this.path = path;
+        this.pollInterval = pollInterval;
+        this.loader = loader;
+        this.description = description;
+        this.onReload = onReload;
+        this.value = initial;
+        if (path != null && !reloadIfChanged()) {
+            throw new IllegalStateException("Cannot load " + name + " " + path);
+        }
+    }
+
+    /**
+     * @return the value currently in use
+     */
+    T value() {
+        return value;
+    }
+
+    /**
+     * Reloads the file if it changed since the last successful load.
+     *
+     * @return whether a new value was published
+     */
+    synchronized boolean reloadIfChanged() {
+        try {
+            FileTime modifiedTime = Files.getLastModifiedTime(path);
+            long size = Files.size(path);
+            if (modifiedTime.equals(loadedModifiedTime) && size == loadedSize) {
+                return false;
+            }
+
+            T next = loader.load(path, value);
+            value = next;
+            loadedModifiedTime = modifiedTime;
+            loadedSize = size;
+            log.info("Loaded {} {} ({})", name, path, description.apply(next));
+            onReload.accept(next);
+            return true;
+        } catch (IOException | RuntimeException ex) {
+            log.error("Cannot load {} {}, keeping {}", name, path, description.apply(value), ex);
+            return false;
+        }
+    }
+
+    /**
+     * Starts polling the file, unless there is none.
+     */
+    void startPolling() {
+        if (path == null) {
+            return;
+        }
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name.replace(' ', '-') + "-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = pollInterval.toMillis();
+        poller.scheduleWithFixedDelay(this::reloadIfChanged, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    void stopPolling() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+    }
+}
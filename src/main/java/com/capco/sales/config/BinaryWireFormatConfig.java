@@ -0,0 +1,72 @@
+package com.capco.sales.config;
+
+import com.capco.sales.model.Client;
+import com.capco.sales.model.IndividualClient;
+import com.capco.sales.model.ProfessionalClient;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Binary wire format for internal service-to-service calls.
+ * <p>
+ * Requests sent as {@code application/x-jackson-smile} are read, and responses written, as
+ * <a href="https://github.com/FasterXML/smile-format-specification">Smile</a> binary JSON when the caller
+ * asks for it through {@code Content-Type} and {@code Accept}; JSON stays the default for everyone else.
+ * On top of Smile's compact encoding, product types and other enums travel as their ordinal and the client
+ * type as {@code "0"} (individual) or {@code "1"} (professional), so no enum name is spelled out on the wire.
+ */
+@Configuration(proxyBeanMethods = false)
+public class BinaryWireFormatConfig {
+
+    /** Media type of the binary wire format. */
+    public static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    /**
+     * @param builder the application's object mapper builder, so Spring Boot's Jackson settings still apply
+     * @return the object mapper reading and writing the binary wire format
+     */
+    public static ObjectMapper smileObjectMapper(Jackson2ObjectMapperBuilder builder) {
+        return builder.factory(new SmileFactory())
+                      .featuresToEnable(SerializationFeature.WRITE_ENUMS_USING_INDEX)
+                      .mixIn(Client.class, BinaryClientTypes.class)
+                      .build();
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(smileObjectMapper(builder));
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public CodecCustomizer smileCodecCustomizer(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper objectMapper = smileObjectMapper(builder);
+        // the codecs fall back to JSON media types unless given their own
+        return configurer -> {
+            configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(objectMapper, SMILE));
+            configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(objectMapper, SMILE));
+        };
+    }
+
+    /**
+     * Replaces the client type names with short numeric ids on the binary wire format only.
+     */
+    @JsonSubTypes({
+            @JsonSubTypes.Type(value = IndividualClient.class, name = "0"),
+            @JsonSubTypes.Type(value = ProfessionalClient.class, name = "1")
+    })
+    private interface BinaryClientTypes {
+    }
+}
@@ -0,0 +1,135 @@
+package com.capco.sales.config;
+
+import com.capco.sales.dto.LineAggregation;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Cart calculation settings, bound from {@code capco.cart.*} properties.
+ */
+@Data
+@ConfigurationProperties(prefix = "capco.cart")
+public class CartProperties {
+
+    /**
+     * Default line aggregation, used when a request does not ask for one.
+     */
+    private LineAggregation lineAggregation = LineAggregation.NONE;
+
+    /**
+     * Carts with at least this many lines are priced in parallel chunks; 0 always prices sequentially.
+     */
+    private int parallelThreshold = 20_000;
+
+    /**
+     * Cache of calculated quotes, keyed by pricing strategy and cart lines.
+     */
+    private QuoteCache quoteCache = new QuoteCache();
+
+    /**
+     * Server-side cart sessions with incrementally maintained totals.
+     */
+    private Sessions sessions = new Sessions();
+
+    /**
+     * Pre-encoded JSON fragments of recurring item details in cart responses.
+     */
+    private ResponseFragments responseFragments = new ResponseFragments();
+
+    @Data
+    public static class QuoteCache {
+
+        /**
+         * Whether repeat quotes are served from the cache.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of cached quotes.
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * How long a quote stays cached after being calculated.
+         */
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+        /**
+         * Carts with more lines than this are not cached.
+         */
+        private int maxLines = 100;
+    }
+
+    @Data
+    public static class ResponseFragments {
+
+        /**
+         * Whether cart responses are written from cached item detail fragments.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of cached item detail fragments.
+         */
+        private long maximumSize = 10_000;
+    }
+
+    @Data
+    public static class Sessions {
+
+        /**
+         * How long a session is kept without being read or updated.
+         */
+        private Duration idleTimeout = Duration.ofMinutes(30);
+
+        /**
+         * Maximum number of live sessions; the least recently used ones of a shard are evicted beyond
+         * its share of it.
+         */
+        private long maximumSize = 100_000;
+
+        /**
+         * Number of independently locked store shards, rounded up to a power of two;
+         * 0 sizes it from the number of available processors.
+         */
+        private int shards = 0;
+
+        /**
+         * How often idle sessions are swept out of the store.
+         */
+        private Duration sweepInterval = Duration.ofSeconds(30);
+
+        /**
+         * Local persistence of sessions across restarts.
+         */
+        private Journal journal = new Journal();
+    }
+
+    @Data
+    public static class Journal {
+
+        /**
+         * Directory of the session journal and snapshots; when unset sessions are kept in memory only.
+         */
+        private Path directory;
+
+        /**
+         * Size of each memory-mapped journal segment file.
+         */
+        private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+        /**
+         * Maximum number of journal records committed by a single fsync.
+         */
+        private int maxBatchSize = 1024;
+
+        /**
+         * How often a compacted snapshot of all sessions is written; older journal segments are then deleted.
+         */
+        private Duration snapshotInterval = Duration.ofMinutes(5);
+    }
+}
@@ -0,0 +1,54 @@
+package com.capco.sales.config;
+
+import com.capco.sales.dto.BatchCartRequest;
+import com.capco.sales.dto.BatchCartResult;
+import com.capco.sales.dto.CartTotalResponse;
+import com.capco.sales.dto.ShoppingCartRequest;
+import com.capco.sales.exception.ErrorResponse;
+import com.capco.sales.model.Client;
+import com.capco.sales.pricing.PricingStrategy;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Reflection hints for ahead-of-time processing and GraalVM native images.
+ * <p>
+ * Spring infers binding hints from controller signatures, but not the implementations of the polymorphic
+ * {@link Client}, which Jackson instantiates from the {@code type} property, nor the types bound outside of
+ * controllers, e.g. by the batch and streaming services. The sealed {@link PricingStrategy} hierarchy is
+ * registered as a whole, so every strategy record keeps its constructors, accessors and fields. Both hierarchies
+ * are walked from their permitted subclasses, so a new implementation is registered without changing this class.
+ */
+public class CartRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        registerBinding(hints, Client.class);
+        bindingRegistrar.registerReflectionHints(hints.reflection(), ShoppingCartRequest.class,
+                CartTotalResponse.class, BatchCartRequest.class, BatchCartResult.class, ErrorResponse.class);
+        registerStrategies(hints, PricingStrategy.class);
+    }
+
+    private void registerBinding(RuntimeHints hints, Class<?> type) {
+        bindingRegistrar.registerReflectionHints(hints.reflection(), type);
+        if (type.isSealed()) {
+            for (Class<?> subclass : type.getPermittedSubclasses()) {
+                registerBinding(hints, subclass);
+            }
+        }
+    }
+
+    private static void registerStrategies(RuntimeHints hints, Class<?> type) {
+        hints.reflection().registerType(type, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.DECLARED_FIELDS);
+        if (type.isSealed()) {
+            for (Class<?> subclass : type.getPermittedSubclasses()) {
+                registerStrategies(hints, subclass);
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.capco.sales.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Per-client negotiated price settings, bound from {@code capco.pricing.negotiated.*} properties.
+ */
+@Data
+@ConfigurationProperties(prefix = "capco.pricing.negotiated")
+public class NegotiatedPriceProperties {
+
+    /**
+     * CSV file of negotiated prices; when unset every client pays the prices of its tier.
+     */
+    private Path path;
+
+    /**
+     * How often the negotiated price file is checked for changes.
+     */
+    private Duration pollInterval = Duration.ofSeconds(5);
+}
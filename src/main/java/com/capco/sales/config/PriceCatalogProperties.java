@@ -0,0 +1,25 @@
+package com.capco.sales.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Externalized price catalog settings, bound from {@code capco.pricing.catalog.*} properties.
+ */
+@Data
+@ConfigurationProperties(prefix = "capco.pricing.catalog")
+public class PriceCatalogProperties {
+
+    /**
+     * JSON price catalog file; when unset the built-in strategy prices are used.
+     */
+    private Path path;
+
+    /**
+     * How often the catalog file is checked for changes.
+     */
+    private Duration pollInterval = Duration.ofSeconds(5);
+}
@@ -0,0 +1,79 @@
+package com.capco.sales.config;
+
+import com.capco.sales.model.ContractLevel;
+import com.capco.sales.model.ProductType;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pricing tier rules, bound from {@code capco.pricing.rules.*} properties.
+ */
+@Data
+@ConfigurationProperties(prefix = "capco.pricing.rules")
+public class PricingRulesProperties {
+
+    /**
+     * Rules resolving the pricing tier of professional clients; the built-in revenue rules apply when empty.
+     */
+    private List<Rule> professional = new ArrayList<>();
+
+    /**
+     * Cache of the tiers resolved for professional clients.
+     */
+    private TierCache tierCache = new TierCache();
+
+    @Data
+    public static class Rule {
+
+        /**
+         * Pricing tier applied by the rule: a built-in tier, or a new tier defined by its prices.
+         */
+        private String tier;
+
+        /**
+         * ISO 3166-1 alpha-2 country the rule is restricted to; any country when unset.
+         */
+        private String country;
+
+        /**
+         * Contract level the rule is restricted to; any contract level when unset.
+         */
+        private ContractLevel contractLevel;
+
+        /**
+         * Exclusive lower bound of the annual revenue in euros, at most two decimals (whole cents); no bound when unset.
+         */
+        private BigDecimal revenueAbove;
+
+        /**
+         * Unit prices of a new tier; empty for a built-in tier.
+         */
+        private Map<ProductType, BigDecimal> prices = new EnumMap<>(ProductType.class);
+    }
+
+    @Data
+    public static class TierCache {
+
+        /**
+         * Whether resolved tiers are cached per client.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of cached clients.
+         */
+        private long maximumSize = 100_000;
+
+        /**
+         * How long a resolved tier stays cached without being used.
+         */
+        private Duration expireAfterAccess = Duration.ofHours(1);
+    }
+}
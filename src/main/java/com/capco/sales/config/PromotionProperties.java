@@ -0,0 +1,57 @@
+package com.capco.sales.config;
+
+import com.capco.sales.model.ProductType;
+import com.capco.sales.pricing.PromotionType;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Active promotions, bound from {@code capco.pricing.promotions.*} properties.
+ */
+@Data
+@ConfigurationProperties(prefix = "capco.pricing.promotions")
+public class PromotionProperties {
+
+    /**
+     * Promotions applied after the base price of the pricing tier.
+     */
+    private List<Promotion> rules = new ArrayList<>();
+
+    @Data
+    public static class Promotion {
+
+        /**
+         * Promotion identifier, reported with the discounts it grants.
+         */
+        private String id;
+
+        private PromotionType type;
+
+        /**
+         * Discounted products: the product of a quantity break, the bundled products, or the products of a
+         * percentage promotion (every product when empty).
+         */
+        private Set<ProductType> products = EnumSet.noneOf(ProductType.class);
+
+        /**
+         * Minimum quantity of the product in the cart for a quantity break to apply.
+         */
+        private int minQuantity;
+
+        /**
+         * Percentage off, greater than 0 and at most 100.
+         */
+        private BigDecimal percent;
+
+        /**
+         * Pricing tier the promotion is restricted to; every tier when unset.
+         */
+        private String tier;
+    }
+}
@@ -0,0 +1,25 @@
+package com.capco.sales.config;
+
+import com.capco.sales.controller.CartTotalResponseHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Writes JSON cart responses of the servlet stack from cached item detail fragments.
+ * Registered as a bean, the converter is placed ahead of the default JSON converter.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "capco.cart.response-fragments", name = "enabled", matchIfMissing = true)
+public class ResponseFragmentConfig {
+
+    @Bean
+    public CartTotalResponseHttpMessageConverter cartTotalResponseHttpMessageConverter(ObjectMapper objectMapper,
+                                                                                       CartProperties cartProperties) {
+        return new CartTotalResponseHttpMessageConverter(objectMapper,
+                cartProperties.getResponseFragments().getMaximumSize());
+    }
+}
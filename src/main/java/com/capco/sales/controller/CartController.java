@@ -1,26 +1,42 @@
 package com.capco.sales.controller;
 
+import com.capco.sales.dto.BatchCartRequest;
+import com.capco.sales.dto.BatchCartResult;
 import com.capco.sales.dto.CartTotalResponse;
+import com.capco.sales.dto.CartView;
+import com.capco.sales.dto.LineAggregation;
 import com.capco.sales.dto.ShoppingCartRequest;
 import com.capco.sales.exception.ErrorResponse;
+import com.capco.sales.service.BatchCartService;
 import com.capco.sales.service.CartService;
+import com.capco.sales.service.StreamingCartService;
+import com.capco.sales.validation.ShoppingCartRequestValidator;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.validation.Valid;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 /**
- * REST controller for shopping cart operations.
+ * REST controller for shopping cart operations, served by Spring MVC.
+ * Its WebFlux counterpart, {@code ReactiveCartController}, is built by the {@code reactive} Maven profile.
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/v1")
 @RequiredArgsConstructor
 @Tag(name = "Shopping Cart", description = "Shopping cart calculation APIs")
@@ -44,6 +60,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class CartController {
 
     private final CartService cartService;
+    private final BatchCartService batchCartService;
+    private final StreamingCartService streamingCartService;
 
     @Operation(
             summary = "Calculate shopping cart total",
@@ -65,8 +83,89 @@ public class CartController {
             )
     )
     @PostMapping("/cart/calculate")
-    public CartTotalResponse calculateCartTotal(@Valid @RequestBody ShoppingCartRequest request) {
-        return cartService.calculateTotal(request);
+    public CartTotalResponse calculateCartTotal(
+            @RequestBody ShoppingCartRequest request,
+            @Parameter(description = "Folds lines of the same product type before pricing; defaults to the configured mode")
+            @RequestParam(required = false) LineAggregation aggregation,
+            @Parameter(description = "How much of the priced cart to return; TOTAL and SUMMARY fold lines per product type")
+            @RequestParam(defaultValue = "FULL") CartView view) {
+        ShoppingCartRequestValidator.requireValid(request);
+        return cartService.calculateTotal(request, aggregation, view);
+    }
+
+    @Operation(
+            summary = "Calculate shopping cart total while reading the request",
+            description = """
+                    Prices the same request as `/cart/calculate`, reading its cart lines one at a time
+                    instead of binding the whole request first.
+
+                    With `totalsOnly=true`, only running quantities per product type are kept while the lines
+                    are read, so memory does not depend on the size of the cart, and the response has no
+                    item details, like `view=TOTAL`. Its total is the one of `aggregation=PRODUCT_TYPE`.
+                    Only running quantities are kept for `view=SUMMARY` too.
+                    """,
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ShoppingCartRequest.class)
+                    )
+            )
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Successfully calculated cart total",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = CartTotalResponse.class)
+            )
+    )
+    @PostMapping(value = "/cart/calculate/stream", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public CartTotalResponse calculateCartTotalStreaming(
+            InputStream body,
+            @Parameter(description = "Folds lines of the same product type before pricing; defaults to the configured mode")
+            @RequestParam(required = false) LineAggregation aggregation,
+            @Parameter(description = "How much of the priced cart to return; TOTAL and SUMMARY fold lines per product type")
+            @RequestParam(defaultValue = "FULL") CartView view,
+            @Parameter(description = "Shorthand for view=TOTAL")
+            @RequestParam(defaultValue = "false") boolean totalsOnly) throws IOException {
+        return streamingCartService.calculateTotal(body, aggregation, totalsOnly ? CartView.TOTAL : view);
+    }
+
+    @Operation(
+            summary = "Calculate shopping cart totals in batch",
+            description = """
+                    Prices a stream of shopping carts sent as NDJSON (one cart per line) or as a JSON array.
+                    Each cart has the same shape as the single cart request plus an optional `correlationId`.
+
+                    Results are streamed back as NDJSON in input order, one line per cart, as soon as each cart is priced.
+                    A cart that cannot be read, fails validation or fails pricing gets a per-cart `error`
+                    and does not fail the rest of the batch.
+                    """,
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = BatchCartRequest.class)
+                    )
+            )
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Stream of per-cart results",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                    schema = @Schema(implementation = BatchCartResult.class)
+            )
+    )
+    @PostMapping(
+            value = "/cart/calculate/batch",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    public void calculateCartTotals(InputStream body, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        batchCartService.calculateBatch(body, response.getOutputStream());
     }
 
 }
@@ -0,0 +1,105 @@
+package com.capco.sales.controller;
+
+import com.capco.sales.dto.CartItemDto;
+import com.capco.sales.dto.CartLineQuantity;
+import com.capco.sales.dto.CartSessionRequest;
+import com.capco.sales.dto.CartSessionResponse;
+import com.capco.sales.exception.ErrorResponse;
+import com.capco.sales.model.ProductType;
+import com.capco.sales.service.CartSessionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * REST controller for server-side cart sessions, served by Spring MVC.
+ * Callers open a session once and then send only line changes; every response carries the running total.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/v1/cart/sessions")
+@RequiredArgsConstructor
+@Tag(name = "Cart Sessions", description = "Server-side carts with incrementally maintained totals")
+@ApiResponses(value = {
+        @ApiResponse(
+                responseCode = "400",
+                description = "Invalid request - validation failed",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ErrorResponse.class)
+                )),
+        @ApiResponse(
+                responseCode = "404",
+                description = "Cart session not found or expired",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ErrorResponse.class)
+                )
+        )
+})
+public class CartSessionController {
+
+    private final CartSessionService cartSessionService;
+
+    @Operation(summary = "Open a cart session", description = "Resolves the client's pricing once for the whole session")
+    @ApiResponse(responseCode = "201", description = "Session created",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CartSessionResponse.class)))
+    @PostMapping
+    public ResponseEntity<CartSessionResponse> createSession(@Valid @RequestBody CartSessionRequest request) {
+        CartSessionResponse response = cartSessionService.create(request);
+        return ResponseEntity.created(ServletUriComponentsBuilder.fromCurrentRequest()
+                                                                 .path("/{sessionId}")
+                                                                 .buildAndExpand(response.sessionId())
+                                                                 .toUri())
+                             .body(response);
+    }
+
+    @Operation(summary = "Get a cart session with its total")
+    @GetMapping("/{sessionId}")
+    public CartSessionResponse getSession(@PathVariable String sessionId) {
+        return cartSessionService.get(sessionId);
+    }
+
+    @Operation(summary = "Add an item to a cart session", description = "Adds to the product's quantity if already in the cart")
+    @PostMapping("/{sessionId}/items")
+    public CartSessionResponse addItem(@PathVariable String sessionId, @Valid @RequestBody CartItemDto item) {
+        return cartSessionService.addItem(sessionId, item);
+    }
+
+    @Operation(summary = "Change the quantity of a product in a cart session")
+    @PutMapping("/{sessionId}/items/{productType}")
+    public CartSessionResponse changeQuantity(@PathVariable String sessionId, @PathVariable ProductType productType,
+                                              @Valid @RequestBody CartLineQuantity quantity) {
+        return cartSessionService.changeQuantity(sessionId, productType, quantity.quantity());
+    }
+
+    @Operation(summary = "Remove a product from a cart session")
+    @DeleteMapping("/{sessionId}/items/{productType}")
+    public CartSessionResponse removeItem(@PathVariable String sessionId, @PathVariable ProductType productType) {
+        return cartSessionService.removeItem(sessionId, productType);
+    }
+
+    @Operation(summary = "Close a cart session")
+    @ApiResponse(responseCode = "204", description = "Session closed")
+    @DeleteMapping("/{sessionId}")
+    public ResponseEntity<Void> deleteSession(@PathVariable String sessionId) {
+        cartSessionService.delete(sessionId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,152 @@
+package com.capco.sales.controller;
+
+import com.capco.sales.dto.CartTotalResponse;
+import com.capco.sales.dto.ItemDetail;
+import com.capco.sales.model.ProductType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.NonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Writes {@link CartTotalResponse} JSON from cached, pre-encoded item detail fragments.
+ * <p>
+ * Most carts repeat a small set of item detail tuples (product, quantity, unit price, total price), so each
+ * distinct {@link ItemDetail} is encoded by the application's {@link ObjectMapper} once, kept in a bounded cache
+ * and then copied straight to the response body; only the envelope and the total are written per request.
+ * Item details are records compared by value, scale of their amounts included, so a fragment is only reused
+ * for a detail that would serialize to the same bytes. At construction the output is compared to the
+ * mapper's own serialization of a sample response; when they differ, e.g. with indented output or a property
+ * naming strategy, every response is serialized by the mapper instead.
+ */
+@Slf4j
+public class CartTotalResponseHttpMessageConverter extends AbstractHttpMessageConverter<CartTotalResponse>
+        implements MeterBinder {
+
+    private static final byte[] TOTAL = "{\"total\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ITEM_DETAILS = ",\"itemDetails\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] END = "]}".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+    private final Cache<ItemDetail, byte[]> fragments;
+    private final boolean fragmentsMatchMapper;
+
+    /**
+     * @param objectMapper the application's JSON object mapper
+     * @param maximumSize the maximum number of cached item detail fragments
+     */
+    public CartTotalResponseHttpMessageConverter(ObjectMapper objectMapper, long maximumSize) {
+        super(MediaType.APPLICATION_JSON);
+        this.objectMapper = objectMapper;
+        this.fragments = Caffeine.newBuilder()
+                                 .maximumSize(maximumSize)
+                                 .recordStats()
+                                 .build();
+        this.fragmentsMatchMapper = matchesMapper();
+        if (!fragmentsMatchMapper) {
+            log.warn("Object mapper settings change the cart response layout, item detail fragments are disabled");
+        }
+    }
+
+    @Override
+    protected boolean supports(@NonNull Class<?> clazz) {
+        return CartTotalResponse.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(@NonNull Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    @NonNull
+    protected CartTotalResponse readInternal(@NonNull Class<? extends CartTotalResponse> clazz,
+                                             @NonNull HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Cart responses are not read", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(@NonNull CartTotalResponse response, @NonNull HttpOutputMessage outputMessage)
+            throws IOException {
+        OutputStream body = outputMessage.getBody();
+        if (!fragmentsMatchMapper || response.itemDetails() == null) {
+            objectMapper.writeValue(body, response);
+            return;
+        }
+        write(response, body, itemDetail -> fragments.get(itemDetail, this::encode));
+    }
+
+    /**
+     * Publishes hit, miss and eviction metrics of the fragment cache as {@code cache.*{cache=cart.json.fragments}}.
+     *
+     * @param registry the registry to bind to
+     */
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, fragments, "cart.json.fragments");
+    }
+
+    /**
+     * @return hit, miss and eviction statistics of the fragment cache
+     */
+    public CacheStats stats() {
+        return fragments.stats();
+    }
+
+    private void write(CartTotalResponse response, OutputStream body, Function<ItemDetail, byte[]> fragment)
+            throws IOException {
+        body.write(TOTAL);
+        body.write(objectMapper.writeValueAsBytes(response.total()));
+        body.write(ITEM_DETAILS);
+        List<ItemDetail> itemDetails = response.itemDetails();
+        for (int i = 0; i < itemDetails.size(); i++) {
+            if (i > 0) {
+                body.write(',');
+            }
+            body.write(fragment.apply(itemDetails.get(i)));
+        }
+        body.write(END);
+    }
+
+    private byte[] encode(ItemDetail itemDetail) {
+        try {
+            return objectMapper.writeValueAsBytes(itemDetail);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private boolean matchesMapper() {
+        BigDecimal price = new BigDecimal("1.50");
+        ItemDetail itemDetail = new ItemDetail(ProductType.LAPTOP, 1, price, price);
+        CartTotalResponse sample = new CartTotalResponse(price, List.of(itemDetail, itemDetail));
+        try {
+            ByteArrayOutputStream written = new ByteArrayOutputStream();
+            write(sample, written, this::encode);
+            return Arrays.equals(written.toByteArray(), objectMapper.writeValueAsBytes(sample));
+        } catch (IOException | UncheckedIOException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.capco.sales.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+/**
+ * Discount granted on a cart item by a promotion.
+ *
+ * @param promotion the identifier of the promotion
+ * @param amount the amount deducted from the item's total price
+ */
+@Schema(description = "Discount granted on a cart item by a promotion")
+public record AppliedDiscount(
+        @Schema(description = "Promotion identifier", example = "LAPTOP_10_PLUS")
+        String promotion,
+
+        @Schema(description = "Amount deducted from the item's total price", example = "120.00")
+        BigDecimal amount
+) {
+}
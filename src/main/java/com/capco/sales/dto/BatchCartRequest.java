@@ -0,0 +1,34 @@
+package com.capco.sales.dto;
+
+import com.capco.sales.model.Client;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * A single cart within a batch calculation request.
+ * Has the same shape as {@link ShoppingCartRequest} plus an optional caller-supplied correlation id.
+ *
+ * @param correlationId optional identifier echoed back in the matching result
+ * @param client the client making the purchase
+ * @param items the list of items in the shopping cart
+ */
+@Schema(description = "Shopping cart entry of a batch request (one JSON object per NDJSON line)")
+public record BatchCartRequest(
+        @Schema(description = "Caller-supplied identifier echoed back in the result", example = "order-42")
+        String correlationId,
+
+        @Schema(description = "Client making the purchase", required = true)
+        Client client,
+
+        @Schema(description = "List of items in the cart", required = true)
+        List<CartItemDto> items
+) {
+
+    /**
+     * @return the cart as a regular shopping cart request
+     */
+    public ShoppingCartRequest toShoppingCartRequest() {
+        return new ShoppingCartRequest(client, items);
+    }
+}
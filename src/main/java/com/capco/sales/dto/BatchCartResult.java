@@ -0,0 +1,39 @@
+package com.capco.sales.dto;
+
+import com.capco.sales.exception.ErrorResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Result of a single cart within a batch calculation.
+ * Exactly one of {@code result} and {@code error} is present.
+ *
+ * @param sequence zero-based position of the cart in the batch
+ * @param correlationId the correlation id supplied with the cart, or the sequence number if none was given
+ * @param result the calculated cart total, when the cart was priced successfully
+ * @param error the error for this cart, when it could not be priced
+ */
+@Schema(description = "Per-cart result of a batch calculation (one JSON object per NDJSON line)")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchCartResult(
+        @Schema(description = "Zero-based position of the cart in the batch", example = "0")
+        long sequence,
+
+        @Schema(description = "Correlation id of the cart", example = "order-42")
+        String correlationId,
+
+        @Schema(description = "Calculated cart total")
+        CartTotalResponse result,
+
+        @Schema(description = "Error preventing this cart from being priced")
+        ErrorResponse error
+) {
+
+    public static BatchCartResult success(long sequence, String correlationId, CartTotalResponse result) {
+        return new BatchCartResult(sequence, correlationId, result, null);
+    }
+
+    public static BatchCartResult failure(long sequence, String correlationId, ErrorResponse error) {
+        return new BatchCartResult(sequence, correlationId, null, error);
+    }
+}
@@ -0,0 +1,19 @@
+package com.capco.sales.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * New quantity of a cart session line.
+ *
+ * @param quantity the quantity of the product (must be at least 1)
+ */
+@Schema(description = "New quantity of a cart line")
+public record CartLineQuantity(
+        @Schema(description = "Quantity of the product", example = "3", minimum = "1", required = true)
+        @NotNull(message = "Quantity is required")
+        @Min(value = 1, message = "Quantity must be at least 1")
+        Integer quantity
+) {
+}
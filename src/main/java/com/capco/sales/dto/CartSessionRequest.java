@@ -0,0 +1,26 @@
+package com.capco.sales.dto;
+
+import com.capco.sales.model.Client;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * Request DTO for opening a cart session.
+ *
+ * @param client the client the session prices for
+ * @param items optional initial cart items
+ */
+@Schema(description = "Cart session creation request with client information and optional initial items")
+public record CartSessionRequest(
+        @Schema(description = "Client the session prices for", required = true)
+        @NotNull(message = "Client is required")
+        @Valid
+        Client client,
+
+        @Schema(description = "Initial items of the cart")
+        List<@Valid CartItemDto> items
+) {
+}
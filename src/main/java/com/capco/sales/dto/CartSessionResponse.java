@@ -0,0 +1,26 @@
+package com.capco.sales.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Current state of a cart session.
+ *
+ * @param sessionId the session identifier
+ * @param total the total cost of all items in the cart
+ * @param itemDetails one entry per product in the cart, in product type order
+ */
+@Schema(description = "Cart session with its running total and item details")
+public record CartSessionResponse(
+        @Schema(description = "Session identifier", example = "3f1c1a8e-4b7d-4e57-9a59-1f7d2b8c6e10")
+        String sessionId,
+
+        @Schema(description = "Total cost of all items in the cart", example = "4200")
+        BigDecimal total,
+
+        @Schema(description = "Pricing details per product in the cart")
+        List<ItemDetail> itemDetails
+) {
+}
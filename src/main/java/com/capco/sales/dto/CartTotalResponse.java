@@ -8,12 +8,12 @@ import java.util.List;
 /**
  * Response DTO containing the calculated shopping cart total.
  *
- * @param total the total cost of all items in the cart
+ * @param total the total cost of all items in the cart, promotion discounts deducted
  * @param itemDetails detailed breakdown of each item's pricing
  */
 @Schema(description = "Shopping cart calculation result with total and item details")
 public record CartTotalResponse(
-        @Schema(description = "Total cost of all items in the cart", example = "4200")
+        @Schema(description = "Total cost of all items in the cart, promotion discounts deducted", example = "4200")
         BigDecimal total,
 
         @Schema(description = "Detailed breakdown of pricing for each item")
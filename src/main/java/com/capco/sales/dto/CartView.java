@@ -0,0 +1,15 @@
+package com.capco.sales.dto;
+
+/**
+ * How much of the priced cart a response carries.
+ */
+public enum CartView {
+    /** The total only, without item details */
+    TOTAL,
+
+    /** One item detail per product type, in product type declaration order, as with {@link LineAggregation#PRODUCT_TYPE} */
+    SUMMARY,
+
+    /** Item details folded according to the requested {@link LineAggregation} */
+    FULL
+}
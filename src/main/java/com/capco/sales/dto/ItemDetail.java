@@ -1,9 +1,11 @@
 package com.capco.sales.dto;
 
 import com.capco.sales.model.ProductType;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 /**
  * Detailed pricing information for a single cart item.
@@ -11,7 +13,8 @@ import java.math.BigDecimal;
  * @param productType the type of product
  * @param quantity the quantity purchased
  * @param unitPrice the price per unit
- * @param totalPrice the total price (unitPrice × quantity)
+ * @param totalPrice the total price (unitPrice × quantity), before discounts
+ * @param discounts the promotion discounts granted on the item, deducted from the cart total
  */
 @Schema(description = "Pricing details for a single cart item")
 public record ItemDetail(
@@ -24,7 +27,19 @@ public record ItemDetail(
         @Schema(description = "Price per unit", example = "1500")
         BigDecimal unitPrice,
 
-        @Schema(description = "Total price for this item (unitPrice × quantity)", example = "3000")
-        BigDecimal totalPrice
+        @Schema(description = "Total price for this item (unitPrice × quantity), before discounts", example = "3000")
+        BigDecimal totalPrice,
+
+        @Schema(description = "Promotion discounts granted on this item; omitted when there are none")
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        List<AppliedDiscount> discounts
 ) {
+
+    public ItemDetail {
+        discounts = discounts == null ? List.of() : discounts;
+    }
+
+    public ItemDetail(ProductType productType, Integer quantity, BigDecimal unitPrice, BigDecimal totalPrice) {
+        this(productType, quantity, unitPrice, totalPrice, List.of());
+    }
 }
@@ -0,0 +1,16 @@
+package com.capco.sales.dto;
+
+/**
+ * How cart lines are folded before pricing.
+ * Totals are identical in every mode; only the item breakdown differs.
+ */
+public enum LineAggregation {
+    /** One item detail per cart line, as sent */
+    NONE,
+
+    /** One item detail per product type, in order of first appearance in the cart */
+    FIRST_OCCURRENCE,
+
+    /** One item detail per product type, in product type declaration order */
+    PRODUCT_TYPE
+}
@@ -0,0 +1,11 @@
+package com.capco.sales.exception;
+
+/**
+ * Thrown when a cart session does not exist or has expired.
+ */
+public class CartSessionNotFoundException extends RuntimeException {
+
+    public CartSessionNotFoundException(String sessionId) {
+        super("Cart session not found: " + sessionId);
+    }
+}
@@ -0,0 +1,23 @@
+package com.capco.sales.exception;
+
+import java.util.Map;
+
+/**
+ * Thrown when a shopping cart request fails validation.
+ */
+public class CartValidationException extends RuntimeException {
+
+    private final transient Map<String, String> errors;
+
+    public CartValidationException(Map<String, String> errors) {
+        super("Validation failed: " + errors);
+        this.errors = Map.copyOf(errors);
+    }
+
+    /**
+     * @return the error messages keyed by property path
+     */
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+}
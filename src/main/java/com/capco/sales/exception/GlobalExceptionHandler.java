@@ -1,12 +1,15 @@
 package com.capco.sales.exception;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -15,6 +18,8 @@ import java.util.Map;
 /**
  * Global exception handler for the application.
  * Provides consistent error responses across all endpoints.
+ * Exceptions specific to the reactive stack are handled by {@code ReactiveExceptionHandler} in the
+ * {@code reactive} Maven profile.
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -27,13 +32,32 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex) {
+        return validationFailed(ex.getBindingResult());
+    }
+
+    /**
+     * Handles shopping cart requests rejected by
+     * {@link com.capco.sales.validation.ShoppingCartRequestValidator}.
+     *
+     * @param ex the validation exception
+     * @return error response with validation details, as for @Valid
+     */
+    @ExceptionHandler(CartValidationException.class)
+    public ResponseEntity<ErrorResponse> handleCartValidation(CartValidationException ex) {
+        return validationFailed(ex.getErrors());
+    }
+
+    static ResponseEntity<ErrorResponse> validationFailed(BindingResult bindingResult) {
         Map<String, String> errors = new HashMap<>();
-        ex.getBindingResult().getAllErrors().forEach(error -> {
+        bindingResult.getAllErrors().forEach(error -> {
             String fieldName = ((FieldError) error).getField();
             String errorMessage = error.getDefaultMessage();
             errors.put(fieldName, errorMessage);
         });
+        return validationFailed(errors);
+    }
 
+    private static ResponseEntity<ErrorResponse> validationFailed(Map<String, String> errors) {
         ErrorResponse errorResponse = new ErrorResponse(
                 HttpStatus.BAD_REQUEST.value(),
                 "Validation failed",
@@ -67,6 +91,60 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    /**
+     * Handles request bodies that cannot be parsed when they are read by the application rather than by
+     * a message converter.
+     *
+     * @param ex the JSON processing exception
+     * @return error response with parse error details
+     */
+    @ExceptionHandler(JsonProcessingException.class)
+    public ResponseEntity<ErrorResponse> handleJsonProcessing(JsonProcessingException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Invalid request format or value",
+                null,
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Handles request parameters that cannot be converted (unknown enum values, etc.).
+     *
+     * @param ex the type mismatch exception
+     * @return error response naming the invalid parameter
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleMethodArgumentTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Invalid request parameter",
+                Map.of(ex.getName(), "Invalid value: " + ex.getValue()),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Handles requests to cart sessions that do not exist or have expired.
+     *
+     * @param ex the session not found exception
+     * @return not found error response
+     */
+    @ExceptionHandler(CartSessionNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleCartSessionNotFound(CartSessionNotFoundException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.NOT_FOUND.value(),
+                ex.getMessage(),
+                null,
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
     /**
      * Handles all other uncaught exceptions.
      *
@@ -0,0 +1,95 @@
+package com.capco.sales.metrics;
+
+import com.capco.sales.model.Client;
+import com.capco.sales.model.IndividualClient;
+import com.capco.sales.model.ProfessionalClient;
+import com.capco.sales.pricing.PricingStrategy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meters of the cart pricing hot path.
+ * Meters are registered once and cached, so recording only costs a map lookup and a few atomic updates:
+ * <ul>
+ *     <li>{@code cart.pricing} - pricing latency histogram, tagged by client type and pricing tier</li>
+ *     <li>{@code cart.size} - distribution of the number of lines per cart</li>
+ *     <li>{@code cart.lines.priced} - cart lines priced, as a counter whose rate is lines per second</li>
+ *     <li>{@code cart.json.parse} - time spent reading and binding the JSON request body</li>
+ * </ul>
+ */
+@Component
+public class CartMetrics {
+
+    private final MeterRegistry registry;
+    private final Map<PricingKey, Timer> pricingTimers = new ConcurrentHashMap<>();
+    private final DistributionSummary cartSize;
+    private final Counter linesPriced;
+    private final Timer jsonParse;
+
+    public CartMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.cartSize = DistributionSummary.builder("cart.size")
+                                           .description("Number of lines per priced cart")
+                                           .baseUnit("lines")
+                                           .serviceLevelObjectives(1, 10, 100, 1_000, 10_000, 100_000)
+                                           .register(registry);
+        this.linesPriced = Counter.builder("cart.lines.priced")
+                                  .description("Cart lines priced")
+                                  .baseUnit("lines")
+                                  .register(registry);
+        this.jsonParse = Timer.builder("cart.json.parse")
+                              .description("Time spent reading and binding cart request bodies")
+                              .publishPercentileHistogram()
+                              .register(registry);
+    }
+
+    /**
+     * Records one priced cart.
+     *
+     * @param client the client of the cart
+     * @param strategy the pricing strategy applied
+     * @param lines the number of cart lines
+     * @param nanos the pricing time in nanoseconds
+     */
+    public void recordPricing(Client client, PricingStrategy strategy, int lines, long nanos) {
+        pricingTimers.computeIfAbsent(new PricingKey(clientType(client), strategy.tier()), this::pricingTimer)
+                     .record(nanos, TimeUnit.NANOSECONDS);
+        cartSize.record(lines);
+        linesPriced.increment(lines);
+    }
+
+    /**
+     * Records the time spent reading and binding one request body.
+     *
+     * @param nanos the parse time in nanoseconds
+     */
+    public void recordJsonParse(long nanos) {
+        jsonParse.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer pricingTimer(PricingKey key) {
+        return Timer.builder("cart.pricing")
+                    .description("Cart pricing latency")
+                    .tag("client.type", key.clientType())
+                    .tag("pricing.tier", key.tier())
+                    .publishPercentileHistogram()
+                    .register(registry);
+    }
+
+    private static String clientType(Client client) {
+        return switch (client) {
+            case IndividualClient individual -> "INDIVIDUAL";
+            case ProfessionalClient professional -> "PROFESSIONAL";
+        };
+    }
+
+    private record PricingKey(String clientType, String tier) {
+    }
+}
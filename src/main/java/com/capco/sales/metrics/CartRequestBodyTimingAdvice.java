@@ -0,0 +1,61 @@
+package com.capco.sales.metrics;
+
+import com.capco.sales.dto.ShoppingCartRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+
+/**
+ * Times how long Spring MVC spends reading and binding {@link ShoppingCartRequest} bodies,
+ * so JSON parse time can be told apart from pricing time.
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class CartRequestBodyTimingAdvice extends RequestBodyAdviceAdapter {
+
+    /**
+     * Request attribute holding the read start of the body, in {@link System#nanoTime()} units. A request
+     * attribute rather than a thread local, which would be created anew for every request on virtual threads.
+     */
+    private static final String READ_START = CartRequestBodyTimingAdvice.class.getName() + ".READ_START";
+
+    private final CartMetrics cartMetrics;
+
+    @Override
+    public boolean supports(@NonNull MethodParameter methodParameter, @NonNull Type targetType,
+                            @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return targetType == ShoppingCartRequest.class;
+    }
+
+    @Override
+    @NonNull
+    public HttpInputMessage beforeBodyRead(@NonNull HttpInputMessage inputMessage, @NonNull MethodParameter parameter,
+                                           @NonNull Type targetType,
+                                           @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        RequestContextHolder.currentRequestAttributes()
+                            .setAttribute(READ_START, System.nanoTime(), RequestAttributes.SCOPE_REQUEST);
+        return inputMessage;
+    }
+
+    @Override
+    @NonNull
+    public Object afterBodyRead(@NonNull Object body, @NonNull HttpInputMessage inputMessage,
+                                @NonNull MethodParameter parameter, @NonNull Type targetType,
+                                @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        if (RequestContextHolder.currentRequestAttributes()
+                                .getAttribute(READ_START, RequestAttributes.SCOPE_REQUEST) instanceof Long readStart) {
+            cartMetrics.recordJsonParse(System.nanoTime() - readStart);
+        }
+        return body;
+    }
+}
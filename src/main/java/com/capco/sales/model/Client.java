@@ -21,7 +21,8 @@ public sealed interface Client permits IndividualClient, ProfessionalClient {
     String clientId();
 
     /**
-     * @return the pricing strategy applicable to this client
+     * @return the pricing strategy applicable to this client under the built-in rules; prices are charged with
+     * the strategy of {@link com.capco.sales.pricing.PricingStrategyResolver#resolve(Client)}
      */
     PricingStrategy getPricingStrategy();
 }
@@ -0,0 +1,18 @@
+package com.capco.sales.model;
+
+/**
+ * Contract level negotiated with a professional client.
+ */
+public enum ContractLevel {
+    /** Default contract */
+    STANDARD,
+
+    /** Contract with volume commitments */
+    SILVER,
+
+    /** Contract with yearly volume commitments and dedicated support */
+    GOLD,
+
+    /** Strategic account contract */
+    PLATINUM
+}
@@ -23,7 +23,7 @@ public record IndividualClient(
 
     @Override
     public PricingStrategy getPricingStrategy() {
-        return new IndividualPricingStrategy();
+        return IndividualPricingStrategy.INSTANCE;
     }
 
 }
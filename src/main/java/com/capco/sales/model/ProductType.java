@@ -2,6 +2,7 @@ package com.capco.sales.model;
 
 /**
  * Types of products available for sale.
+ * The binary wire format encodes constants by ordinal: append new constants, never reorder or remove them.
  */
 public enum ProductType {
     /** High-end smartphone */
@@ -1,23 +1,26 @@
 package com.capco.sales.model;
 
-import com.capco.sales.pricing.HighRevenueProfessionalPricingStrategy;
-import com.capco.sales.pricing.LowRevenueProfessionalPricingStrategy;
+import com.capco.sales.pricing.PricingDecisionTable;
 import com.capco.sales.pricing.PricingStrategy;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 
 import java.math.BigDecimal;
 
 /**
  * Represents a professional client (business).
  * Professional clients receive different pricing based on their annual revenue.
- * Companies with revenue greater than €10 million get better pricing.
+ * Companies with revenue greater than €10 million get better pricing; the pricing rules configuration
+ * may further tier clients by country and contract level.
  */
 @JsonTypeName("PROFESSIONAL")
 public record ProfessionalClient(
         @NotBlank(message = "Client ID is required")
+        @Size(max = ProfessionalClient.CLIENT_ID_MAX_LENGTH, message = "Client ID must be at most 255 characters")
         String clientId,
 
         @NotBlank(message = "Company name is required")
@@ -30,16 +33,33 @@ public record ProfessionalClient(
 
         @NotNull(message = "Annual revenue is required")
         @PositiveOrZero(message = "Annual revenue must be positive or zero")
-        BigDecimal annualRevenue
+        BigDecimal annualRevenue,
+
+        @Pattern(regexp = "^[A-Z]{2}$", message = "Country must be an ISO 3166-1 alpha-2 code")
+        String country,
+
+        ContractLevel contractLevel
 ) implements Client {
 
-    private static final BigDecimal HIGH_REVENUE_THRESHOLD = new BigDecimal("10000000");
+    /** Negotiated prices and cart sessions are keyed by the client id, so its length is bounded. */
+    public static final int CLIENT_ID_MAX_LENGTH = 255;
+
+    public ProfessionalClient(String clientId, String companyName, String vatNumber, String registrationNumber,
+                              BigDecimal annualRevenue) {
+        this(clientId, companyName, vatNumber, registrationNumber, annualRevenue, null, null);
+    }
 
+    /**
+     * Resolves the strategy against the built-in revenue rules only, ignoring the configured
+     * {@code capco.pricing.rules}, so it may differ from the tier the client is charged.
+     *
+     * @return the strategy of the built-in revenue rules
+     * @deprecated use {@link com.capco.sales.pricing.PricingStrategyResolver#resolve(Client)}, which applies the
+     * configured pricing rules
+     */
+    @Deprecated
     @Override
     public PricingStrategy getPricingStrategy() {
-        if (annualRevenue.compareTo(HIGH_REVENUE_THRESHOLD) > 0) {
-            return new HighRevenueProfessionalPricingStrategy();
-        }
-        return new LowRevenueProfessionalPricingStrategy();
+        return PricingDecisionTable.DEFAULT.resolve(country, contractLevel, annualRevenue);
     }
 }
@@ -0,0 +1,81 @@
+package com.capco.sales.pricing;
+
+import com.capco.sales.config.PricingRulesProperties;
+import com.capco.sales.model.ContractLevel;
+import com.capco.sales.model.ProfessionalClient;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of the pricing strategies resolved for professional clients.
+ * <p>
+ * The key is the client identifier plus a fingerprint of every input of the resolution: the revenue in whole
+ * cents (the precision the pricing rules are compiled to), the country and the contract level. A client whose
+ * revenue changes therefore misses the cache instead of keeping a stale tier, and its former entry ages out.
+ * Entries are evicted beyond the configured size and after the configured idle time.
+ * <p>
+ * The cache is disabled by default: resolving a tier is a binary search over a few compiled bounds, which costs
+ * about as much as hashing the key, so it only pays off with large rule sets.
+ */
+@Component
+public class ClientTierCache implements MeterBinder {
+
+    private final Cache<TierKey, PricingStrategy> cache;
+
+    public ClientTierCache(PricingRulesProperties pricingRulesProperties) {
+        PricingRulesProperties.TierCache properties = pricingRulesProperties.getTierCache();
+        this.cache = properties.isEnabled()
+                ? Caffeine.newBuilder()
+                          .maximumSize(properties.getMaximumSize())
+                          .expireAfterAccess(properties.getExpireAfterAccess())
+                          .recordStats()
+                          .build()
+                : null;
+    }
+
+    /**
+     * Returns the cached strategy of the client, resolving and caching it on a miss.
+     *
+     * @param client the professional client
+     * @param revenueCents the client's annual revenue, rounded up to whole cents
+     * @param resolution resolves the strategy on a miss
+     * @return the strategy of the client
+     */
+    PricingStrategy get(ProfessionalClient client, long revenueCents, Supplier<PricingStrategy> resolution) {
+        if (cache == null) {
+            return resolution.get();
+        }
+        TierKey key = new TierKey(client.clientId(), revenueCents, client.country(), client.contractLevel());
+        return cache.get(key, ignored -> resolution.get());
+    }
+
+    /**
+     * Publishes hit, miss and eviction metrics of the cache as {@code cache.*{cache=pricing.tiers}}.
+     *
+     * @param registry the registry to bind to
+     */
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        if (cache != null) {
+            CaffeineCacheMetrics.monitor(registry, cache, "pricing.tiers");
+        }
+    }
+
+    /**
+     * @return hit, miss and eviction statistics; empty when the cache is disabled
+     */
+    public CacheStats stats() {
+        return cache != null ? cache.stats() : CacheStats.empty();
+    }
+
+    private record TierKey(String clientId, long revenueCents, String country, ContractLevel contractLevel) {
+    }
+}
@@ -11,14 +11,22 @@ import java.util.Map;
  */
 public record HighRevenueProfessionalPricingStrategy() implements PricingStrategy {
 
-    private static final Map<ProductType, BigDecimal> PRICES = Map.of(
+    /** Shared instance; the strategy is stateless. */
+    public static final HighRevenueProfessionalPricingStrategy INSTANCE = new HighRevenueProfessionalPricingStrategy();
+
+    private static final PriceTable PRICES = PriceTable.of(Map.of(
         ProductType.HIGH_END_PHONE, new BigDecimal("1000"),
         ProductType.MID_RANGE_PHONE, new BigDecimal("550"),
         ProductType.LAPTOP, new BigDecimal("900")
-    );
+    ));
+
+    @Override
+    public String tier() {
+        return "PROFESSIONAL_HIGH_REVENUE";
+    }
 
     @Override
-    public BigDecimal getPrice(ProductType productType) {
-        return PRICES.get(productType);
+    public PriceTable priceTable() {
+        return PRICES;
     }
 }
@@ -11,14 +11,22 @@ import java.util.Map;
  */
 public record IndividualPricingStrategy() implements PricingStrategy {
 
-    private static final Map<ProductType, BigDecimal> PRICES = Map.of(
+    /** Shared instance; the strategy is stateless. */
+    public static final IndividualPricingStrategy INSTANCE = new IndividualPricingStrategy();
+
+    private static final PriceTable PRICES = PriceTable.of(Map.of(
         ProductType.HIGH_END_PHONE, new BigDecimal("1500"),
         ProductType.MID_RANGE_PHONE, new BigDecimal("800"),
         ProductType.LAPTOP, new BigDecimal("1200")
-    );
+    ));
+
+    @Override
+    public String tier() {
+        return "INDIVIDUAL";
+    }
 
     @Override
-    public BigDecimal getPrice(ProductType productType) {
-        return PRICES.get(productType);
+    public PriceTable priceTable() {
+        return PRICES;
     }
 }
@@ -11,14 +11,22 @@ import java.util.Map;
  */
 public record LowRevenueProfessionalPricingStrategy() implements PricingStrategy {
 
-    private static final Map<ProductType, BigDecimal> PRICES = Map.of(
+    /** Shared instance; the strategy is stateless. */
+    public static final LowRevenueProfessionalPricingStrategy INSTANCE = new LowRevenueProfessionalPricingStrategy();
+
+    private static final PriceTable PRICES = PriceTable.of(Map.of(
         ProductType.HIGH_END_PHONE, new BigDecimal("1150"),
         ProductType.MID_RANGE_PHONE, new BigDecimal("600"),
         ProductType.LAPTOP, new BigDecimal("1000")
-    );
+    ));
+
+    @Override
+    public String tier() {
+        return "PROFESSIONAL_LOW_REVENUE";
+    }
 
     @Override
-    public BigDecimal getPrice(ProductType productType) {
-        return PRICES.get(productType);
+    public PriceTable priceTable() {
+        return PRICES;
     }
 }
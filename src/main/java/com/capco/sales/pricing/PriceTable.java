@@ -0,0 +1,123 @@
+package com.capco.sales.pricing;
+
+import com.capco.sales.model.ProductType;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Immutable, ordinal-indexed unit prices of a pricing tier.
+ * Besides the {@link BigDecimal} prices it keeps each price in euro cents, so carts can be priced
+ * with primitive {@code long} arithmetic and converted back to {@link BigDecimal} only for the response.
+ */
+public final class PriceTable {
+
+    private static final ProductType[] PRODUCT_TYPES = ProductType.values();
+
+    /** Powers of ten fitting in a {@code long}, used to rescale cent amounts. */
+    private static final long[] TEN_POWERS = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L,
+            100_000_000_000_000L, 1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L,
+            1_000_000_000_000_000_000L
+    };
+
+    private static final int CENTS_SCALE = 2;
+
+    private final BigDecimal[] unitPrices;
+    private final long[] unitCents;
+    private final int[] scales;
+    private final boolean centsExact;
+
+    private PriceTable(BigDecimal[] unitPrices) {
+        this.unitPrices = unitPrices;
+        this.unitCents = new long[unitPrices.length];
+        this.scales = new int[unitPrices.length];
+
+        boolean exact = true;
+        for (int i = 0; i < unitPrices.length; i++) {
+            BigDecimal price = unitPrices[i];
+            if (price == null || !fitsCents(price)) {
+                exact = false;
+                continue;
+            }
+            unitCents[i] = price.movePointRight(CENTS_SCALE).longValueExact();
+            scales[i] = price.scale();
+        }
+        this.centsExact = exact;
+    }
+
+    /**
+     * Builds a price table from unit prices keyed by product type.
+     *
+     * @param prices the unit price of each product type
+     * @return the price table
+     */
+    public static PriceTable of(Map<ProductType, BigDecimal> prices) {
+        BigDecimal[] unitPrices = new BigDecimal[PRODUCT_TYPES.length];
+        for (ProductType productType : PRODUCT_TYPES) {
+            unitPrices[productType.ordinal()] = prices.get(productType);
+        }
+        return new PriceTable(unitPrices);
+    }
+
+    /**
+     * @param productType the product to price
+     * @return the unit price of the product
+     */
+    public BigDecimal unitPrice(ProductType productType) {
+        return unitPrices[productType.ordinal()];
+    }
+
+    /**
+     * @param productType the product to price
+     * @return the unit price of the product in euro cents; only meaningful when {@link #isCentsExact()}
+     */
+    public long unitCents(ProductType productType) {
+        return unitCents[productType.ordinal()];
+    }
+
+    /**
+     * @param productType the product to price
+     * @return the scale of the unit price, which is also the scale of any line total for the product
+     */
+    public int scale(ProductType productType) {
+        return scales[productType.ordinal()];
+    }
+
+    /**
+     * @return whether every unit price is exactly representable in cents, enabling {@code long} arithmetic
+     */
+    public boolean isCentsExact() {
+        return centsExact;
+    }
+
+    /**
+     * Converts a cent amount to the {@link BigDecimal} of the given scale that the
+     * {@link BigDecimal} arithmetic would have produced.
+     *
+     * @param cents the amount in cents, exactly representable at {@code scale}
+     * @param scale the scale of the result
+     * @return the amount as a {@link BigDecimal}
+     * @throws ArithmeticException if the rescaled amount does not fit in a {@code long}
+     */
+    public static BigDecimal toBigDecimal(long cents, int scale) {
+        if (scale >= CENTS_SCALE) {
+            return BigDecimal.valueOf(Math.multiplyExact(cents, TEN_POWERS[scale - CENTS_SCALE]), scale);
+        }
+        return BigDecimal.valueOf(cents / TEN_POWERS[CENTS_SCALE - scale], scale);
+    }
+
+    private static boolean fitsCents(BigDecimal price) {
+        int scale = price.scale();
+        if (scale - CENTS_SCALE >= TEN_POWERS.length || CENTS_SCALE - scale >= TEN_POWERS.length) {
+            return false;
+        }
+        try {
+            price.movePointRight(CENTS_SCALE).longValueExact();
+            return true;
+        } catch (ArithmeticException ex) {
+            return false;
+        }
+    }
+}
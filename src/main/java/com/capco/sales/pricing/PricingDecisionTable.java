@@ -0,0 +1,183 @@
+package com.capco.sales.pricing;
+
+import com.capco.sales.model.ContractLevel;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Pricing rules of professional clients compiled for lookup.
+ * <p>
+ * Rules are grouped by country and contract level; each group is compiled into an ascending array of revenue
+ * lower bounds in {@code long} cents with the strategy of each band. Resolving a client converts its revenue to
+ * cents once and binary-searches the band, so the cost grows with the logarithm of the number of tiers and no
+ * {@link BigDecimal} comparison is made per tier. Groups are tried from the most to the least specific:
+ * country and contract level, country only, contract level only, then rules matching any client.
+ */
+public final class PricingDecisionTable {
+
+    private static final ContractLevel[] CONTRACT_LEVELS = ContractLevel.values();
+
+    private static final BigDecimal HIGH_REVENUE_THRESHOLD = new BigDecimal("10000000");
+
+    /** Built-in rules: better prices for companies with an annual revenue above €10 million. */
+    public static final PricingDecisionTable DEFAULT = compile(List.of(
+            new PricingRule(null, null, null, LowRevenueProfessionalPricingStrategy.INSTANCE),
+            new PricingRule(null, null, HIGH_REVENUE_THRESHOLD, HighRevenueProfessionalPricingStrategy.INSTANCE)
+    ));
+
+    /** Bands per country, indexed by contract level ordinal + 1; index 0 holds the rules of any contract level. */
+    private final Map<String, Bands[]> byCountry;
+    private final Bands[] anyCountry;
+
+    private PricingDecisionTable(Map<String, Bands[]> byCountry, Bands[] anyCountry) {
+        this.byCountry = byCountry;
+        this.anyCountry = anyCountry;
+    }
+
+    /**
+     * Compiles pricing rules.
+     *
+     * @param rules the rules, in any order
+     * @return the compiled table
+     * @throws IllegalArgumentException if two rules of a group share a lower bound or a bound is not whole cents
+     */
+    public static PricingDecisionTable compile(List<PricingRule> rules) {
+        Map<String, List<PricingRule>[]> grouped = new HashMap<>();
+        List<PricingRule>[] anyCountryRules = newGroup();
+        for (PricingRule rule : rules) {
+            List<PricingRule>[] group = rule.country() == null
+                    ? anyCountryRules
+                    : grouped.computeIfAbsent(rule.country(), country -> newGroup());
+            group[levelIndex(rule.contractLevel())].add(rule);
+        }
+
+        Map<String, Bands[]> byCountry = new HashMap<>();
+        grouped.forEach((country, group) -> byCountry.put(country, compileGroup(group)));
+        return new PricingDecisionTable(Map.copyOf(byCountry), compileGroup(anyCountryRules));
+    }
+
+    /**
+     * @param country the client's country, or {@code null} if unknown
+     * @param contractLevel the client's contract level, or {@code null} if unknown
+     * @param annualRevenue the client's annual revenue
+     * @return the strategy of the most specific rule matching the client
+     * @throws IllegalStateException if no rule matches the client
+     */
+    public PricingStrategy resolve(String country, ContractLevel contractLevel, BigDecimal annualRevenue) {
+        return resolve(country, contractLevel, revenueCents(annualRevenue));
+    }
+
+    PricingStrategy resolve(String country, ContractLevel contractLevel, long revenueCents) {
+        int level = levelIndex(contractLevel);
+
+        Bands[] countryBands = country != null ? byCountry.get(country) : null;
+        PricingStrategy strategy = null;
+        if (countryBands != null) {
+            strategy = find(countryBands, level, revenueCents);
+        }
+        if (strategy == null) {
+            strategy = find(anyCountry, level, revenueCents);
+        }
+        if (strategy == null) {
+            throw new IllegalStateException("No pricing rule matches country " + country + ", contract level "
+                    + contractLevel + " and revenue " + BigDecimal.valueOf(revenueCents, 2));
+        }
+        return strategy;
+    }
+
+    private static PricingStrategy find(Bands[] bands, int level, long revenueCents) {
+        PricingStrategy strategy = null;
+        if (level > 0 && bands[level] != null) {
+            strategy = bands[level].find(revenueCents);
+        }
+        if (strategy == null && bands[0] != null) {
+            strategy = bands[0].find(revenueCents);
+        }
+        return strategy;
+    }
+
+    private static Bands[] compileGroup(List<PricingRule>[] group) {
+        Bands[] bands = new Bands[group.length];
+        for (int level = 0; level < group.length; level++) {
+            if (!group[level].isEmpty()) {
+                bands[level] = Bands.of(group[level]);
+            }
+        }
+        return bands;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<PricingRule>[] newGroup() {
+        List<PricingRule>[] group = new List[CONTRACT_LEVELS.length + 1];
+        for (int i = 0; i < group.length; i++) {
+            group[i] = new ArrayList<>();
+        }
+        return group;
+    }
+
+    private static int levelIndex(ContractLevel contractLevel) {
+        return contractLevel == null ? 0 : contractLevel.ordinal() + 1;
+    }
+
+    /**
+     * Rounds up to whole cents, so that a revenue is above a whole-cent bound exactly when its cents are:
+     * two revenues with the same cents always resolve to the same strategy.
+     */
+    static long revenueCents(BigDecimal revenue) {
+        BigDecimal cents = revenue.movePointRight(2).setScale(0, RoundingMode.CEILING);
+        return cents.unscaledValue().bitLength() < Long.SIZE ? cents.longValue() : Long.MAX_VALUE;
+    }
+
+    /**
+     * Revenue bands of one group: band {@code i} applies above {@code lowerBounds[i]} up to the next bound.
+     */
+    private record Bands(long[] lowerBounds, PricingStrategy[] strategies) {
+
+        static Bands of(List<PricingRule> rules) {
+            List<PricingRule> sorted = new ArrayList<>(rules);
+            sorted.sort(Comparator.comparingLong(rule -> boundCents(rule.revenueAbove())));
+
+            long[] lowerBounds = new long[sorted.size()];
+            PricingStrategy[] strategies = new PricingStrategy[sorted.size()];
+            for (int i = 0; i < lowerBounds.length; i++) {
+                PricingRule rule = sorted.get(i);
+                lowerBounds[i] = boundCents(rule.revenueAbove());
+                strategies[i] = Objects.requireNonNull(rule.strategy(), "Pricing rule without strategy");
+                if (i > 0 && lowerBounds[i] == lowerBounds[i - 1]) {
+                    throw new IllegalArgumentException("Pricing rules " + sorted.get(i - 1) + " and " + rule
+                            + " overlap");
+                }
+            }
+            return new Bands(lowerBounds, strategies);
+        }
+
+        /**
+         * @return the strategy of the band holding the revenue, or {@code null} if below every band
+         */
+        PricingStrategy find(long revenueCents) {
+            int index = Arrays.binarySearch(lowerBounds, revenueCents);
+            // bounds are exclusive: a revenue equal to a bound belongs to the band below it
+            int band = (index >= 0 ? index : -index - 1) - 1;
+            return band >= 0 ? strategies[band] : null;
+        }
+
+        private static long boundCents(BigDecimal revenueAbove) {
+            if (revenueAbove == null) {
+                return Long.MIN_VALUE;
+            }
+            try {
+                return revenueAbove.movePointRight(2).longValueExact();
+            } catch (ArithmeticException ex) {
+                throw new IllegalArgumentException("Revenue bound " + revenueAbove + " is not a whole cent amount", ex);
+            }
+        }
+    }
+}
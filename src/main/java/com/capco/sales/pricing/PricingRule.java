@@ -0,0 +1,20 @@
+package com.capco.sales.pricing;
+
+import com.capco.sales.model.ContractLevel;
+
+import java.math.BigDecimal;
+
+/**
+ * Rule assigning a pricing strategy to professional clients.
+ * A rule applies to clients of its country and contract level whose annual revenue is above its lower bound;
+ * a {@code null} criterion matches any client.
+ *
+ * @param country ISO 3166-1 alpha-2 country code, or {@code null} for any country
+ * @param contractLevel contract level, or {@code null} for any contract level
+ * @param revenueAbove exclusive lower bound of the annual revenue in euros, at most two decimals (whole cents),
+ *                     or {@code null} for no bound
+ * @param strategy the strategy applied by the rule
+ */
+public record PricingRule(String country, ContractLevel contractLevel, BigDecimal revenueAbove,
+                          PricingStrategy strategy) {
+}
@@ -7,10 +7,13 @@ import java.math.BigDecimal;
 /**
  * Strategy pattern interface for calculating product prices.
  * Different implementations provide pricing based on client type and characteristics.
+ * Built-in implementations are stateless and shared through their {@code INSTANCE} constant;
+ * further tiers are {@link TieredPricingStrategy} instances created from the pricing rules configuration.
  */
 public sealed interface PricingStrategy permits IndividualPricingStrategy,
                                                 HighRevenueProfessionalPricingStrategy,
-                                                LowRevenueProfessionalPricingStrategy {
+                                                LowRevenueProfessionalPricingStrategy,
+                                                TieredPricingStrategy {
 
     /**
      * Gets the price for a specific product type according to this pricing strategy.
@@ -18,5 +21,34 @@ public sealed interface PricingStrategy permits IndividualPricingStrategy,
      * @param productType the type of product to price
      * @return the price for the product
      */
-    BigDecimal getPrice(ProductType productType);
+    default BigDecimal getPrice(ProductType productType) {
+        return priceTable().unitPrice(productType);
+    }
+
+    /**
+     * Resolves a built-in strategy from its tier identifier.
+     *
+     * @param tier the pricing tier identifier
+     * @return the built-in strategy applying the tier
+     * @throws IllegalArgumentException if no built-in strategy applies the tier
+     * @see PricingStrategyResolver#forTier(String)
+     */
+    static PricingStrategy forTier(String tier) {
+        return switch (tier) {
+            case "INDIVIDUAL" -> IndividualPricingStrategy.INSTANCE;
+            case "PROFESSIONAL_HIGH_REVENUE" -> HighRevenueProfessionalPricingStrategy.INSTANCE;
+            case "PROFESSIONAL_LOW_REVENUE" -> LowRevenueProfessionalPricingStrategy.INSTANCE;
+            default -> throw new IllegalArgumentException("Unknown pricing tier: " + tier);
+        };
+    }
+
+    /**
+     * @return the stable identifier of the pricing tier this strategy applies, e.g. {@code INDIVIDUAL}
+     */
+    String tier();
+
+    /**
+     * @return the ordinal-indexed price table of this strategy
+     */
+    PriceTable priceTable();
 }
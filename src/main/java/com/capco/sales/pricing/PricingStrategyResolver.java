@@ -0,0 +1,92 @@
+package com.capco.sales.pricing;
+
+import com.capco.sales.config.PricingRulesProperties;
+import com.capco.sales.model.Client;
+import com.capco.sales.model.IndividualClient;
+import com.capco.sales.model.ProductType;
+import com.capco.sales.model.ProfessionalClient;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves the pricing strategy of clients from the configured pricing rules.
+ * Professional clients are resolved against the rules compiled into a {@link PricingDecisionTable},
+ * or against the built-in revenue rules when none are configured; their strategies are cached per client
+ * by the {@link ClientTierCache}.
+ */
+@Component
+public class PricingStrategyResolver {
+
+    private final PricingDecisionTable professionalRules;
+    private final Map<String, PricingStrategy> configuredTiers;
+    private final ClientTierCache tierCache;
+
+    public PricingStrategyResolver(PricingRulesProperties properties, ClientTierCache tierCache) {
+        this.tierCache = tierCache;
+        Map<String, PricingStrategy> tiers = new HashMap<>();
+        List<PricingRule> rules = new ArrayList<>();
+        for (PricingRulesProperties.Rule rule : properties.getProfessional()) {
+            rules.add(new PricingRule(rule.getCountry(), rule.getContractLevel(), rule.getRevenueAbove(),
+                    strategy(rule, tiers)));
+        }
+
+        this.configuredTiers = Map.copyOf(tiers);
+        this.professionalRules = rules.isEmpty() ? PricingDecisionTable.DEFAULT : PricingDecisionTable.compile(rules);
+    }
+
+    /**
+     * @param client the client making the purchase
+     * @return the pricing strategy applicable to the client
+     */
+    public PricingStrategy resolve(Client client) {
+        return switch (client) {
+            case IndividualClient individual -> individual.getPricingStrategy();
+            case ProfessionalClient professional -> resolve(professional);
+        };
+    }
+
+    private PricingStrategy resolve(ProfessionalClient client) {
+        long revenueCents = PricingDecisionTable.revenueCents(client.annualRevenue());
+        return tierCache.get(client, revenueCents,
+                () -> professionalRules.resolve(client.country(), client.contractLevel(), revenueCents));
+    }
+
+    /**
+     * Resolves a strategy from its tier identifier, e.g. when restoring persisted state.
+     *
+     * @param tier the pricing tier identifier
+     * @return the configured or built-in strategy applying the tier
+     * @throws IllegalArgumentException if no strategy applies the tier
+     */
+    public PricingStrategy forTier(String tier) {
+        PricingStrategy strategy = configuredTiers.get(tier);
+        return strategy != null ? strategy : PricingStrategy.forTier(tier);
+    }
+
+    private static PricingStrategy strategy(PricingRulesProperties.Rule rule, Map<String, PricingStrategy> tiers) {
+        if (rule.getTier() == null) {
+            throw new IllegalArgumentException("Pricing rule without tier: " + rule);
+        }
+        if (rule.getPrices().isEmpty()) {
+            return tiers.containsKey(rule.getTier()) ? tiers.get(rule.getTier()) : PricingStrategy.forTier(rule.getTier());
+        }
+
+        for (ProductType productType : ProductType.values()) {
+            BigDecimal price = rule.getPrices().get(productType);
+            if (price == null || price.signum() < 0) {
+                throw new IllegalArgumentException("Missing or negative " + productType + " price for tier "
+                        + rule.getTier());
+            }
+        }
+        PricingStrategy strategy = new TieredPricingStrategy(rule.getTier(), PriceTable.of(rule.getPrices()));
+        if (tiers.putIfAbsent(rule.getTier(), strategy) != null) {
+            throw new IllegalArgumentException("Prices of tier " + rule.getTier() + " are defined more than once");
+        }
+        return strategy;
+    }
+}
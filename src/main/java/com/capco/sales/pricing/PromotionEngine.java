@@ -0,0 +1,382 @@
+package com.capco.sales.pricing;
+
+import com.capco.sales.config.PromotionProperties;
+import com.capco.sales.dto.AppliedDiscount;
+import com.capco.sales.dto.CartTotalResponse;
+import com.capco.sales.dto.ItemDetail;
+import com.capco.sales.model.ProductType;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies promotions to priced carts.
+ * <p>
+ * Promotions are compiled once per pricing tier into indexes by {@link ProductType} ordinal: quantity breaks
+ * become an ascending array of minimum quantities searched with a binary search, percentage promotions are
+ * reduced to the best one per product, and bundles to the best one per set of products, of which there are
+ * at most {@code 2^products}. Applying them to a cart is one pass over its lines to count the quantity of each
+ * product, a constant amount of work per product type to pick the discounts, then one pass over the lines to
+ * grant them, whatever the number of active promotions.
+ * <p>
+ * Each product gets at most one discount of each kind, the best one; each unit belongs to at most one bundle,
+ * bundles with the highest percentage being formed first. Discounts are computed per product on its price
+ * before discounts, rounded to the cent and capped at that price, then spread across the product's lines in
+ * proportion to their quantity (their bundled units for a bundle). The cart total therefore does not depend on
+ * how lines are aggregated; only the split of each discount between lines does.
+ */
+@Component
+public class PromotionEngine {
+
+    private static final ProductType[] PRODUCT_TYPES = ProductType.values();
+
+    /** Slot of the quantity break discount of a product. */
+    private static final int BREAK = 0;
+    /** Slot of the percentage discount of a product. */
+    private static final int PERCENTAGE = 1;
+    /** Slot of the first bundle discount of a product, followed by the other bundles in rate order. */
+    private static final int BUNDLES = 2;
+
+    private final CompiledPromotions anyTier;
+    private final Map<String, CompiledPromotions> byTier;
+
+    public PromotionEngine(PromotionProperties properties) {
+        List<PromotionProperties.Promotion> common = new ArrayList<>();
+        Map<String, List<PromotionProperties.Promotion>> tierSpecific = new HashMap<>();
+        for (PromotionProperties.Promotion promotion : properties.getRules()) {
+            validate(promotion);
+            if (promotion.getTier() == null) {
+                common.add(promotion);
+            } else {
+                tierSpecific.computeIfAbsent(promotion.getTier(), tier -> new ArrayList<>()).add(promotion);
+            }
+        }
+
+        this.anyTier = CompiledPromotions.compile(common);
+        Map<String, CompiledPromotions> compiled = new HashMap<>();
+        tierSpecific.forEach((tier, promotions) -> {
+            List<PromotionProperties.Promotion> all = new ArrayList<>(common);
+            all.addAll(promotions);
+            compiled.put(tier, CompiledPromotions.compile(all));
+        });
+        this.byTier = Map.copyOf(compiled);
+    }
+
+    /**
+     * Applies the promotions of the strategy's tier to a priced cart.
+     *
+     * @param strategy the resolved pricing strategy
+     * @param response the cart priced at base prices
+     * @return the cart with the discounts granted, or the given response if none applies
+     */
+    public CartTotalResponse apply(PricingStrategy strategy, CartTotalResponse response) {
+        CompiledPromotions promotions = byTier.getOrDefault(strategy.tier(), anyTier);
+        return promotions.isEmpty() ? response : promotions.apply(response);
+    }
+
+    private static void validate(PromotionProperties.Promotion promotion) {
+        String id = promotion.getId();
+        if (id == null || id.isBlank() || promotion.getType() == null) {
+            throw new IllegalArgumentException("Promotion without id or type: " + promotion);
+        }
+        BigDecimal percent = promotion.getPercent();
+        if (percent == null || percent.signum() <= 0 || percent.compareTo(BigDecimal.valueOf(100)) > 0) {
+            throw new IllegalArgumentException("Promotion " + id + ": percent must be greater than 0 and at most 100");
+        }
+        int products = promotion.getProducts().size();
+        switch (promotion.getType()) {
+            case QUANTITY_BREAK -> {
+                if (products != 1 || promotion.getMinQuantity() < 1) {
+                    throw new IllegalArgumentException("Promotion " + id
+                            + ": a quantity break needs one product and a minimum quantity of at least 1");
+                }
+            }
+            case BUNDLE -> {
+                if (products < 2) {
+                    throw new IllegalArgumentException("Promotion " + id + ": a bundle needs at least two products");
+                }
+            }
+            case PERCENTAGE -> {
+                // no product means every product
+            }
+        }
+    }
+
+    /**
+     * Discount of a promotion, as a rate of the discounted price.
+     */
+    private record Discount(String promotion, BigDecimal rate) {
+
+        static Discount of(PromotionProperties.Promotion promotion) {
+            return new Discount(promotion.getId(), promotion.getPercent().movePointLeft(2));
+        }
+
+        static Discount best(Discount current, Discount candidate) {
+            return current == null || candidate.rate.compareTo(current.rate) > 0 ? candidate : current;
+        }
+
+        BigDecimal amount(BigDecimal price) {
+            return price.multiply(rate).setScale(2, RoundingMode.HALF_UP);
+        }
+    }
+
+    /**
+     * Promotions of one tier, indexed by product type ordinal.
+     */
+    private static final class CompiledPromotions {
+
+        /** Distinct ascending minimum quantities of the quantity breaks of each product. */
+        private final int[][] breakQuantities;
+        /** Best quantity break discount from each minimum quantity on. */
+        private final Discount[][] breakDiscounts;
+        /** Best percentage discount of each product. */
+        private final Discount[] percentages;
+        /** Product bit masks of the bundles, by descending rate. */
+        private final int[] bundleMasks;
+        private final Discount[] bundleDiscounts;
+        private final boolean empty;
+
+        private CompiledPromotions(int[][] breakQuantities, Discount[][] breakDiscounts, Discount[] percentages,
+                                   int[] bundleMasks, Discount[] bundleDiscounts, boolean empty) {
+            this.breakQuantities = breakQuantities;
+            this.breakDiscounts = breakDiscounts;
+            this.percentages = percentages;
+            this.bundleMasks = bundleMasks;
+            this.bundleDiscounts = bundleDiscounts;
+            this.empty = empty;
+        }
+
+        static CompiledPromotions compile(List<PromotionProperties.Promotion> promotions) {
+            List<List<PromotionProperties.Promotion>> breaks = new ArrayList<>();
+            for (int i = 0; i < PRODUCT_TYPES.length; i++) {
+                breaks.add(new ArrayList<>());
+            }
+            Discount[] percentages = new Discount[PRODUCT_TYPES.length];
+            Map<Integer, Discount> bundles = new HashMap<>();
+
+            for (PromotionProperties.Promotion promotion : promotions) {
+                Discount discount = Discount.of(promotion);
+                switch (promotion.getType()) {
+                    case QUANTITY_BREAK -> breaks.get(promotion.getProducts().iterator().next().ordinal())
+                                                 .add(promotion);
+                    case BUNDLE -> bundles.merge(mask(promotion), discount, Discount::best);
+                    case PERCENTAGE -> {
+                        for (ProductType productType : promotion.getProducts().isEmpty()
+                                ? List.of(PRODUCT_TYPES) : promotion.getProducts()) {
+                            percentages[productType.ordinal()] =
+                                    Discount.best(percentages[productType.ordinal()], discount);
+                        }
+                    }
+                }
+            }
+
+            int[][] breakQuantities = new int[PRODUCT_TYPES.length][];
+            Discount[][] breakDiscounts = new Discount[PRODUCT_TYPES.length][];
+            for (int product = 0; product < PRODUCT_TYPES.length; product++) {
+                List<PromotionProperties.Promotion> sorted = new ArrayList<>(breaks.get(product));
+                sorted.sort(Comparator.comparingInt(PromotionProperties.Promotion::getMinQuantity));
+                int[] minQuantities = new int[sorted.size()];
+                Discount[] discounts = new Discount[sorted.size()];
+                int distinct = 0;
+                Discount best = null;
+                for (PromotionProperties.Promotion promotion : sorted) {
+                    best = Discount.best(best, Discount.of(promotion));
+                    // breaks sharing a minimum quantity are merged, so the binary search finds a single entry
+                    if (distinct == 0 || minQuantities[distinct - 1] != promotion.getMinQuantity()) {
+                        minQuantities[distinct++] = promotion.getMinQuantity();
+                    }
+                    discounts[distinct - 1] = best;
+                }
+                breakQuantities[product] = Arrays.copyOf(minQuantities, distinct);
+                breakDiscounts[product] = Arrays.copyOf(discounts, distinct);
+            }
+
+            List<Map.Entry<Integer, Discount>> sortedBundles = new ArrayList<>(bundles.entrySet());
+            sortedBundles.sort(Comparator.comparing((Map.Entry<Integer, Discount> bundle) -> bundle.getValue().rate())
+                                         .reversed()
+                                         .thenComparing(Map.Entry::getKey));
+            int[] bundleMasks = sortedBundles.stream().mapToInt(Map.Entry::getKey).toArray();
+            Discount[] bundleDiscounts = sortedBundles.stream().map(Map.Entry::getValue).toArray(Discount[]::new);
+
+            return new CompiledPromotions(breakQuantities, breakDiscounts, percentages, bundleMasks, bundleDiscounts,
+                    promotions.isEmpty());
+        }
+
+        boolean isEmpty() {
+            return empty;
+        }
+
+        CartTotalResponse apply(CartTotalResponse response) {
+            List<ItemDetail> lines = response.itemDetails();
+            long[] quantities = new long[PRODUCT_TYPES.length];
+            BigDecimal[] prices = new BigDecimal[PRODUCT_TYPES.length];
+            BigDecimal[] unitPrices = new BigDecimal[PRODUCT_TYPES.length];
+            for (ItemDetail line : lines) {
+                int product = line.productType().ordinal();
+                quantities[product] += line.quantity();
+                prices[product] = prices[product] == null ? line.totalPrice() : prices[product].add(line.totalPrice());
+                unitPrices[product] = line.unitPrice();
+            }
+            long[][] bundleUnits = formBundles(quantities);
+
+            ProductDiscounts[] discounts = new ProductDiscounts[PRODUCT_TYPES.length];
+            BigDecimal totalDiscount = BigDecimal.ZERO;
+            for (int product = 0; product < PRODUCT_TYPES.length; product++) {
+                if (prices[product] == null) {
+                    continue;
+                }
+                ProductDiscounts granted = new ProductDiscounts(prices[product], bundleUnits.length);
+                granted.grant(BREAK, quantityBreak(product, quantities[product]), prices[product], quantities[product]);
+                granted.grant(PERCENTAGE, percentages[product], prices[product], quantities[product]);
+                for (int bundle = 0; bundle < bundleUnits.length; bundle++) {
+                    long units = bundleUnits[bundle][product];
+                    if (units > 0) {
+                        granted.grant(BUNDLES + bundle, bundleDiscounts[bundle],
+                                unitPrices[product].multiply(BigDecimal.valueOf(units)), units);
+                    }
+                }
+                if (granted.total.signum() > 0) {
+                    discounts[product] = granted;
+                    totalDiscount = totalDiscount.add(granted.total);
+                }
+            }
+            if (totalDiscount.signum() == 0) {
+                return response;
+            }
+
+            List<ItemDetail> itemDetails = new ArrayList<>(lines.size());
+            for (ItemDetail line : lines) {
+                int product = line.productType().ordinal();
+                ProductDiscounts granted = discounts[product];
+                List<AppliedDiscount> applied = granted == null ? List.of() : new ArrayList<>(2);
+                if (granted != null) {
+                    granted.spread(BREAK, line.quantity(), applied);
+                    granted.spread(PERCENTAGE, line.quantity(), applied);
+                    long unbundled = line.quantity();
+                    for (int bundle = 0; bundle < bundleUnits.length && unbundled > 0; bundle++) {
+                        long units = Math.min(bundleUnits[bundle][product], unbundled);
+                        if (units > 0) {
+                            bundleUnits[bundle][product] -= units;
+                            unbundled -= units;
+                            granted.spread(BUNDLES + bundle, units, applied);
+                        }
+                    }
+                }
+
+                itemDetails.add(applied.isEmpty() ? line : new ItemDetail(line.productType(), line.quantity(),
+                        line.unitPrice(), line.totalPrice(), Collections.unmodifiableList(applied)));
+            }
+
+            return new CartTotalResponse(response.total().subtract(totalDiscount),
+                    Collections.unmodifiableList(itemDetails));
+        }
+
+        private Discount quantityBreak(int product, long quantity) {
+            int[] minQuantities = breakQuantities[product];
+            if (minQuantities.length == 0) {
+                return null;
+            }
+            int index = Arrays.binarySearch(minQuantities, (int) Math.min(quantity, Integer.MAX_VALUE));
+            // on a miss, the insertion point is the first minimum quantity above the cart's quantity
+            int best = index >= 0 ? index : -index - 2;
+            return best >= 0 ? breakDiscounts[product][best] : null;
+        }
+
+        /**
+         * @return the number of units of each product in each bundle, indexed by bundle then product ordinal
+         */
+        private long[][] formBundles(long[] quantities) {
+            long[][] units = new long[bundleMasks.length][PRODUCT_TYPES.length];
+            long[] remaining = quantities.clone();
+            for (int bundle = 0; bundle < bundleMasks.length; bundle++) {
+                int mask = bundleMasks[bundle];
+                long sets = Long.MAX_VALUE;
+                for (int product = 0; product < PRODUCT_TYPES.length; product++) {
+                    if ((mask & (1 << product)) != 0) {
+                        sets = Math.min(sets, remaining[product]);
+                    }
+                }
+                for (int product = 0; product < PRODUCT_TYPES.length && sets > 0; product++) {
+                    if ((mask & (1 << product)) != 0) {
+                        remaining[product] -= sets;
+                        units[bundle][product] = sets;
+                    }
+                }
+            }
+            return units;
+        }
+
+        private static int mask(PromotionProperties.Promotion promotion) {
+            int mask = 0;
+            for (ProductType productType : promotion.getProducts()) {
+                mask |= 1 << productType.ordinal();
+            }
+            return mask;
+        }
+    }
+
+    /**
+     * Discounts granted on one product, capped at its total price, and their split between the product's lines.
+     * <p>
+     * Each discount is spread in proportion to a weight, the quantity or bundled units of a line: the lines up to
+     * a given one are granted the discount's amount times their cumulated weight over the total weight, rounded to
+     * the cent, so the shares of the lines always add up to the discount of the product.
+     */
+    private static final class ProductDiscounts {
+
+        private final BigDecimal price;
+        private final Discount[] discounts;
+        private final BigDecimal[] amounts;
+        private final long[] weights;
+        private final long[] spreadWeights;
+        private final BigDecimal[] spreadAmounts;
+        private BigDecimal total = BigDecimal.ZERO;
+
+        ProductDiscounts(BigDecimal price, int bundles) {
+            this.price = price;
+            this.discounts = new Discount[BUNDLES + bundles];
+            this.amounts = new BigDecimal[discounts.length];
+            this.weights = new long[discounts.length];
+            this.spreadWeights = new long[discounts.length];
+            this.spreadAmounts = new BigDecimal[discounts.length];
+        }
+
+        void grant(int slot, Discount discount, BigDecimal discountedPrice, long weight) {
+            if (discount == null) {
+                return;
+            }
+            BigDecimal amount = discount.amount(discountedPrice).min(price.subtract(total));
+            if (amount.signum() > 0) {
+                discounts[slot] = discount;
+                amounts[slot] = amount;
+                weights[slot] = weight;
+                spreadAmounts[slot] = BigDecimal.ZERO;
+                total = total.add(amount);
+            }
+        }
+
+        void spread(int slot, long weight, List<AppliedDiscount> applied) {
+            if (discounts[slot] == null) {
+                return;
+            }
+            spreadWeights[slot] += weight;
+            BigDecimal upTo = spreadWeights[slot] == weights[slot]
+                    ? amounts[slot]
+                    : amounts[slot].multiply(BigDecimal.valueOf(spreadWeights[slot]))
+                                   .divide(BigDecimal.valueOf(weights[slot]), 2, RoundingMode.HALF_UP);
+            BigDecimal share = upTo.subtract(spreadAmounts[slot]);
+            spreadAmounts[slot] = upTo;
+            if (share.signum() > 0) {
+                applied.add(new AppliedDiscount(discounts[slot].promotion(), share));
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.capco.sales.pricing;
+
+/**
+ * Kinds of promotions applied after the base price of the pricing tier.
+ */
+public enum PromotionType {
+    /** Percentage off every unit of a product once the cart holds at least a minimum quantity of it */
+    QUANTITY_BREAK,
+
+    /** Percentage off each complete set of the bundled products */
+    BUNDLE,
+
+    /** Percentage off every unit of the listed products, or of every product when none is listed */
+    PERCENTAGE
+}
@@ -0,0 +1,11 @@
+package com.capco.sales.pricing;
+
+/**
+ * Pricing strategy of a tier defined by configuration rather than by a dedicated strategy type.
+ * Instances are created once, when the pricing rules are compiled, and shared by every client of the tier.
+ *
+ * @param tier the pricing tier identifier, also used to look the tier up in the price catalog
+ * @param priceTable the unit prices of the tier
+ */
+public record TieredPricingStrategy(String tier, PriceTable priceTable) implements PricingStrategy {
+}
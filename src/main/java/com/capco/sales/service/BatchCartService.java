@@ -0,0 +1,107 @@
+package com.capco.sales.service;
+
+import com.capco.sales.dto.BatchCartRequest;
+import com.capco.sales.dto.BatchCartResult;
+import com.capco.sales.dto.ShoppingCartRequest;
+import com.capco.sales.exception.ErrorResponse;
+import com.capco.sales.validation.ShoppingCartRequestValidator;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Service pricing a stream of shopping carts.
+ * Carts are read one at a time from NDJSON (or a JSON array) and each result is written as soon as
+ * the cart is priced, so memory use does not depend on the size of the batch.
+ * A failing cart produces an error result and does not abort the rest of the batch.
+ */
+@Slf4j
+@Service
+public class BatchCartService {
+
+    private final CartService cartService;
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+
+    public BatchCartService(CartService cartService, ObjectMapper objectMapper) {
+        this.cartService = cartService;
+        this.reader = objectMapper.readerFor(BatchCartRequest.class);
+        this.writer = objectMapper.writerFor(BatchCartResult.class).withRootValueSeparator("");
+    }
+
+    /**
+     * Prices every cart of the input stream and writes one NDJSON result line per cart.
+     * Unreadable carts are reported individually; a syntax error that makes the rest of the stream
+     * unreadable is reported as a final error line.
+     *
+     * @param in the NDJSON or JSON array input
+     * @param out the stream receiving NDJSON results
+     * @throws IOException if the output cannot be written
+     */
+    public void calculateBatch(InputStream in, OutputStream out) throws IOException {
+        try (MappingIterator<BatchCartRequest> carts = reader.readValues(in);
+             JsonGenerator results = writer.createGenerator(out)) {
+            long sequence = 0;
+            while (true) {
+                BatchCartResult result;
+                try {
+                    if (!carts.hasNextValue()) {
+                        break;
+                    }
+                    result = calculate(sequence, carts.nextValue());
+                } catch (DatabindException ex) {
+                    result = BatchCartResult.failure(sequence, String.valueOf(sequence),
+                            error(HttpStatus.BAD_REQUEST, "Invalid request format or value", null));
+                } catch (IOException ex) {
+                    write(results, BatchCartResult.failure(sequence, String.valueOf(sequence),
+                            error(HttpStatus.BAD_REQUEST, "Malformed JSON request, remaining carts skipped", null)));
+                    break;
+                }
+                write(results, result);
+                sequence++;
+            }
+        }
+    }
+
+    private void write(JsonGenerator results, BatchCartResult result) throws IOException {
+        writer.writeValue(results, result);
+        results.writeRaw('\n');
+        results.flush();
+    }
+
+    private BatchCartResult calculate(long sequence, BatchCartRequest cart) {
+        String correlationId = cart.correlationId() != null ? cart.correlationId() : String.valueOf(sequence);
+        ShoppingCartRequest request = cart.toShoppingCartRequest();
+
+        Map<String, String> errors = ShoppingCartRequestValidator.validate(request);
+        if (!errors.isEmpty()) {
+            return BatchCartResult.failure(sequence, correlationId,
+                    error(HttpStatus.BAD_REQUEST, "Validation failed", errors));
+        }
+
+        try {
+            return BatchCartResult.success(sequence, correlationId, cartService.calculateTotal(request));
+        } catch (RuntimeException ex) {
+            log.warn("Failed to price cart {} of batch", correlationId, ex);
+            return BatchCartResult.failure(sequence, correlationId,
+                    error(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred",
+                            Map.of("error", String.valueOf(ex.getMessage()))));
+        }
+    }
+
+    private static ErrorResponse error(HttpStatus status, String message, Map<String, String> errors) {
+        return new ErrorResponse(status.value(), message, errors, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,59 @@
+package com.capco.sales.service;
+
+import com.capco.sales.dto.CartItemDto;
+import com.capco.sales.dto.LineAggregation;
+import com.capco.sales.model.ProductType;
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Folds cart lines into one line per product type, so pricing scales with the number
+ * of distinct products rather than the number of lines.
+ */
+@UtilityClass
+class CartLineAggregator {
+
+    private static final ProductType[] PRODUCT_TYPES = ProductType.values();
+
+    /**
+     * Aggregates the cart lines according to the requested mode.
+     * Lines are returned as-is when a product's summed quantity would not fit in an {@code int}.
+     *
+     * @param items the cart lines
+     * @param aggregation the aggregation mode
+     * @return the lines to price
+     */
+    static List<CartItemDto> aggregate(List<CartItemDto> items, LineAggregation aggregation) {
+        if (aggregation == LineAggregation.NONE || items.size() < 2) {
+            return items;
+        }
+
+        long[] quantities = new long[PRODUCT_TYPES.length];
+        ProductType[] order = new ProductType[PRODUCT_TYPES.length];
+        int distinct = 0;
+        for (CartItemDto item : items) {
+            int ordinal = item.productType().ordinal();
+            if (quantities[ordinal] == 0) {
+                order[distinct++] = item.productType();
+            }
+            quantities[ordinal] += item.quantity();
+            if (quantities[ordinal] > Integer.MAX_VALUE) {
+                return items;
+            }
+        }
+
+        if (aggregation == LineAggregation.PRODUCT_TYPE) {
+            order = PRODUCT_TYPES;
+        }
+
+        List<CartItemDto> aggregated = new ArrayList<>(distinct);
+        for (ProductType productType : order) {
+            if (productType != null && quantities[productType.ordinal()] > 0) {
+                aggregated.add(new CartItemDto(productType, (int) quantities[productType.ordinal()]));
+            }
+        }
+        return aggregated;
+    }
+}
@@ -0,0 +1,146 @@
+package com.capco.sales.service;
+
+import com.capco.sales.catalog.NegotiatedPriceIndex;
+import com.capco.sales.config.CartProperties;
+import com.capco.sales.dto.CartItemDto;
+import com.capco.sales.dto.CartTotalResponse;
+import com.capco.sales.dto.ItemDetail;
+import com.capco.sales.model.ProductType;
+import com.capco.sales.pricing.PriceTable;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Prices cart lines against a price table, optionally overridden by the prices a client negotiated.
+ * Line and cart totals are computed as {@code long} euro cents in a single pass and converted to
+ * {@link BigDecimal} only when building the response. Carts whose prices are not whole cents or whose
+ * totals would overflow a {@code long} are priced with {@link BigDecimal} arithmetic instead.
+ * Both paths produce identical results, scale included.
+ * <p>
+ * Carts of at least {@code capco.cart.parallel-threshold} lines are split into fixed-size chunks priced on the
+ * common fork-join pool. Each chunk writes its item details at their line index, so their order is the line
+ * order, and returns its exact subtotal; subtotals are then summed in a single reduction. Since a
+ * {@link BigDecimal} sum is exact and takes the largest scale of its terms, the total is the same as on the
+ * sequential path, scale included.
+ */
+@Component
+public class CartPricingEngine {
+
+    /** Lines per parallel task: large enough to amortize task overhead, small enough to balance the load. */
+    static final int CHUNK_SIZE = 4096;
+
+    private final int parallelThreshold;
+
+    public CartPricingEngine(CartProperties cartProperties) {
+        int threshold = cartProperties.getParallelThreshold();
+        this.parallelThreshold = threshold > 0 ? Math.max(threshold, CHUNK_SIZE) : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Prices the given cart lines.
+     *
+     * @param prices the price table of the resolved pricing tier
+     * @param items the cart lines, in order
+     * @return the cart total with one item detail per line, in line order
+     */
+    public CartTotalResponse price(PriceTable prices, List<CartItemDto> items) {
+        return price(prices, NegotiatedPriceIndex.EMPTY, -1, items);
+    }
+
+    /**
+     * Prices the given cart lines, with the client's negotiated prices where it has some.
+     *
+     * @param prices the price table of the resolved pricing tier
+     * @param negotiated the negotiated price index
+     * @param client the client's slot in the index, or {@code -1} if it has no negotiated prices
+     * @param items the cart lines, in order
+     * @return the cart total with one item detail per line, in line order
+     */
+    public CartTotalResponse price(PriceTable prices, NegotiatedPriceIndex negotiated, int client,
+                                   List<CartItemDto> items) {
+        ItemDetail[] itemDetails = new ItemDetail[items.size()];
+        BigDecimal total = items.size() < parallelThreshold
+                ? priceRange(prices, negotiated, client, items, itemDetails, 0, items.size())
+                : IntStream.range(0, (items.size() + CHUNK_SIZE - 1) / CHUNK_SIZE)
+                           .parallel()
+                           .mapToObj(chunk -> priceRange(prices, negotiated, client, items, itemDetails,
+                                   chunk * CHUNK_SIZE, Math.min(items.size(), (chunk + 1) * CHUNK_SIZE)))
+                           .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return new CartTotalResponse(total, Collections.unmodifiableList(Arrays.asList(itemDetails)));
+    }
+
+    /**
+     * Prices the lines {@code [from, to)} into {@code itemDetails}.
+     *
+     * @return the subtotal of the lines
+     */
+    private static BigDecimal priceRange(PriceTable prices, NegotiatedPriceIndex negotiated, int client,
+                                         List<CartItemDto> items, ItemDetail[] itemDetails, int from, int to) {
+        if (prices.isCentsExact()) {
+            try {
+                return priceInCents(prices, negotiated, client, items, itemDetails, from, to);
+            } catch (ArithmeticException overflow) {
+                // totals exceed the long range, fall through to BigDecimal arithmetic
+            }
+        }
+        return priceInBigDecimal(prices, negotiated, client, items, itemDetails, from, to);
+    }
+
+    private static BigDecimal priceInCents(PriceTable prices, NegotiatedPriceIndex negotiated, int client,
+                                           List<CartItemDto> items, ItemDetail[] itemDetails, int from, int to) {
+        long totalCents = 0;
+        int totalScale = 0;
+
+        for (int i = from; i < to; i++) {
+            CartItemDto item = items.get(i);
+            ProductType productType = item.productType();
+            long unitCents = negotiated.unitCents(client, productType);
+            int scale;
+            BigDecimal unitPrice;
+            if (unitCents != NegotiatedPriceIndex.NO_PRICE) {
+                scale = negotiated.scale(client, productType);
+                unitPrice = PriceTable.toBigDecimal(unitCents, scale);
+            } else {
+                unitCents = prices.unitCents(productType);
+                scale = prices.scale(productType);
+                unitPrice = prices.unitPrice(productType);
+            }
+            long lineCents = Math.multiplyExact(unitCents, item.quantity().longValue());
+
+            totalCents = Math.addExact(totalCents, lineCents);
+            totalScale = Math.max(totalScale, scale);
+            itemDetails[i] = new ItemDetail(
+                    productType,
+                    item.quantity(),
+                    unitPrice,
+                    PriceTable.toBigDecimal(lineCents, scale)
+            );
+        }
+
+        return PriceTable.toBigDecimal(totalCents, totalScale);
+    }
+
+    private static BigDecimal priceInBigDecimal(PriceTable prices, NegotiatedPriceIndex negotiated, int client,
+                                                List<CartItemDto> items, ItemDetail[] itemDetails, int from, int to) {
+        BigDecimal total = BigDecimal.ZERO;
+
+        for (int i = from; i < to; i++) {
+            CartItemDto item = items.get(i);
+            long unitCents = negotiated.unitCents(client, item.productType());
+            BigDecimal unitPrice = unitCents != NegotiatedPriceIndex.NO_PRICE
+                    ? PriceTable.toBigDecimal(unitCents, negotiated.scale(client, item.productType()))
+                    : prices.unitPrice(item.productType());
+            BigDecimal totalPrice = unitPrice.multiply(BigDecimal.valueOf(item.quantity()));
+
+            total = total.add(totalPrice);
+            itemDetails[i] = new ItemDetail(item.productType(), item.quantity(), unitPrice, totalPrice);
+        }
+
+        return total;
+    }
+}
@@ -0,0 +1,135 @@
+package com.capco.sales.service;
+
+import com.capco.sales.catalog.PriceCatalogReloadedEvent;
+import com.capco.sales.config.CartProperties;
+import com.capco.sales.dto.CartItemDto;
+import com.capco.sales.dto.CartTotalResponse;
+import com.capco.sales.pricing.PriceTable;
+import com.capco.sales.pricing.PricingStrategy;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of calculated quotes.
+ * A quote only depends on the resolved pricing strategy, its current price table and the ordered cart lines,
+ * so the key is built from those alone: two clients of the same tier sending the same lines share one cached,
+ * immutable response, and client identity fields never take part in the key. Price tables are compared by
+ * identity, so quotes computed before a price catalog reload are never served afterwards.
+ */
+@Component
+public class CartQuoteCache implements MeterBinder {
+
+    private final Cache<QuoteKey, CartTotalResponse> cache;
+    private final int maxLines;
+
+    public CartQuoteCache(CartProperties cartProperties) {
+        CartProperties.QuoteCache properties = cartProperties.getQuoteCache();
+        this.maxLines = properties.getMaxLines();
+        this.cache = properties.isEnabled()
+                ? Caffeine.newBuilder()
+                          .maximumSize(properties.getMaximumSize())
+                          .expireAfterWrite(properties.getExpireAfterWrite())
+                          .recordStats()
+                          .build()
+                : null;
+    }
+
+    /**
+     * Returns the cached quote for the strategy and lines, calculating and caching it on a miss.
+     * Carts larger than the configured line limit bypass the cache.
+     *
+     * @param strategy the resolved pricing strategy
+     * @param prices the price table the quote is calculated with
+     * @param items the cart lines to price, in order
+     * @param calculation calculates the quote on a miss
+     * @return the quote
+     */
+    public CartTotalResponse get(PricingStrategy strategy, PriceTable prices, List<CartItemDto> items,
+                                 Supplier<CartTotalResponse> calculation) {
+        if (cache == null || items.size() > maxLines) {
+            return calculation.get();
+        }
+        return cache.get(QuoteKey.of(strategy, prices, items), key -> calculation.get());
+    }
+
+    /**
+     * Drops every cached quote once prices changed; they could no longer be hit anyway.
+     */
+    @EventListener(PriceCatalogReloadedEvent.class)
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Publishes hit, miss and eviction metrics of the cache as {@code cache.*{cache=cart.quotes}}.
+     *
+     * @param registry the registry to bind to
+     */
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        if (cache != null) {
+            CaffeineCacheMetrics.monitor(registry, cache, "cart.quotes");
+        }
+    }
+
+    /**
+     * @return hit, miss and eviction statistics; empty when the cache is disabled
+     */
+    public CacheStats stats() {
+        return cache != null ? cache.stats() : CacheStats.empty();
+    }
+
+    /**
+     * Cache key: the strategy, its price table plus each line packed as {@code productOrdinal << 32 | quantity}.
+     */
+    private static final class QuoteKey {
+
+        private final PricingStrategy strategy;
+        private final PriceTable prices;
+        private final long[] lines;
+        private final int hash;
+
+        private QuoteKey(PricingStrategy strategy, PriceTable prices, long[] lines) {
+            this.strategy = strategy;
+            this.prices = prices;
+            this.lines = lines;
+            this.hash = 31 * (31 * strategy.hashCode() + System.identityHashCode(prices)) + Arrays.hashCode(lines);
+        }
+
+        static QuoteKey of(PricingStrategy strategy, PriceTable prices, List<CartItemDto> items) {
+            long[] lines = new long[items.size()];
+            for (int i = 0; i < lines.length; i++) {
+                CartItemDto item = items.get(i);
+                lines[i] = ((long) item.productType().ordinal() << Integer.SIZE) | (item.quantity() & 0xFFFFFFFFL);
+            }
+            return new QuoteKey(strategy, prices, lines);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof QuoteKey key
+                    && hash == key.hash
+                    && prices == key.prices
+                    && strategy.equals(key.strategy)
+                    && Arrays.equals(lines, key.lines);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -1,13 +1,23 @@
 package com.capco.sales.service;
 
+import com.capco.sales.catalog.NegotiatedPriceIndex;
+import com.capco.sales.catalog.NegotiatedPrices;
+import com.capco.sales.catalog.PriceCatalog;
+import com.capco.sales.config.CartProperties;
 import com.capco.sales.dto.CartItemDto;
 import com.capco.sales.dto.CartTotalResponse;
-import com.capco.sales.dto.ItemDetail;
+import com.capco.sales.dto.CartView;
+import com.capco.sales.dto.LineAggregation;
 import com.capco.sales.dto.ShoppingCartRequest;
+import com.capco.sales.metrics.CartMetrics;
+import com.capco.sales.model.ProfessionalClient;
+import com.capco.sales.pricing.PriceTable;
 import com.capco.sales.pricing.PricingStrategy;
+import com.capco.sales.pricing.PricingStrategyResolver;
+import com.capco.sales.pricing.PromotionEngine;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -15,46 +25,77 @@ import java.util.List;
  * Applies appropriate pricing strategies based on client type and calculates cart totals.
  */
 @Service
+@RequiredArgsConstructor
 public class CartService {
 
+    private final CartPricingEngine pricingEngine;
+    private final PriceCatalog priceCatalog;
+    private final PricingStrategyResolver strategyResolver;
+    private final NegotiatedPrices negotiatedPrices;
+    private final PromotionEngine promotionEngine;
+    private final CartProperties cartProperties;
+    private final CartQuoteCache quoteCache;
+    private final CartMetrics cartMetrics;
+
     /**
-     * Calculates the total cost of a shopping cart for a given client.
-     * The pricing is determined by the client's pricing strategy (individual or professional).
+     * Calculates the total cost of a shopping cart for a given client,
+     * using the configured line aggregation.
      *
      * @param request the shopping cart request containing client information and cart items
      * @return the cart total response with detailed breakdown of prices per item
      */
     public CartTotalResponse calculateTotal(ShoppingCartRequest request) {
-        PricingStrategy strategy = request.client().getPricingStrategy();
-
-        List<ItemDetail> itemDetails = request.items()
-                                              .stream()
-                                              .map(item -> calculateItemDetail(item, strategy))
-                                              .toList();
-
-        BigDecimal total = itemDetails.stream()
-                                      .map(ItemDetail::totalPrice)
-                                      .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return calculateTotal(request, cartProperties.getLineAggregation());
+    }
 
-        return new CartTotalResponse(total, itemDetails);
+    /**
+     * Calculates the total cost of a shopping cart for a given client.
+     * The pricing is determined by the client's pricing strategy, resolved from the pricing rules,
+     * with the prices of the strategy's tier in the current price catalog.
+     * Professional clients with negotiated prices pay them instead, and their quotes bypass the quote cache, which is shared by
+     * the clients of a tier; repeat quotes for the same strategy and lines are served from the quote cache.
+     * The promotions of the tier are applied last.
+     *
+     * @param request the shopping cart request containing client information and cart items
+     * @param aggregation how cart lines are folded before pricing
+     * @return the cart total response with detailed breakdown of prices per item or per product
+     */
+    public CartTotalResponse calculateTotal(ShoppingCartRequest request, LineAggregation aggregation) {
+        return calculateTotal(request, aggregation, CartView.FULL);
     }
 
     /**
-     * Calculates the detail for a single cart item.
+     * Calculates the total cost of a shopping cart for a given client, with the requested view of the priced cart.
+     * Unless the full view is requested, lines are folded per product type before pricing, so no item detail is
+     * built per line; the total is then the one of {@link LineAggregation#PRODUCT_TYPE}.
      *
-     * @param item the cart item to calculate
-     * @param strategy the pricing strategy to apply
-     * @return the item detail with unit price and total price
+     * @param request the shopping cart request containing client information and cart items
+     * @param aggregation how cart lines are folded before pricing in the full view, or {@code null} for the
+     *                    configured mode
+     * @param view how much of the priced cart the response carries
+     * @return the cart total response, with the item details of the view
+     * @see #calculateTotal(ShoppingCartRequest, LineAggregation)
      */
-    private ItemDetail calculateItemDetail(CartItemDto item, PricingStrategy strategy) {
-        BigDecimal unitPrice = strategy.getPrice(item.productType());
-        BigDecimal totalPrice = unitPrice.multiply(BigDecimal.valueOf(item.quantity()));
-
-        return new ItemDetail(
-                item.productType(),
-                item.quantity(),
-                unitPrice,
-                totalPrice
-        );
+    public CartTotalResponse calculateTotal(ShoppingCartRequest request, LineAggregation aggregation,
+                                            CartView view) {
+        long start = System.nanoTime();
+        PricingStrategy strategy = strategyResolver.resolve(request.client());
+        PriceTable prices = priceCatalog.priceTable(strategy);
+        LineAggregation lineAggregation = view != CartView.FULL ? LineAggregation.PRODUCT_TYPE
+                : aggregation != null ? aggregation : cartProperties.getLineAggregation();
+        List<CartItemDto> items = CartLineAggregator.aggregate(request.items(), lineAggregation);
+
+        NegotiatedPriceIndex negotiated = negotiatedPrices.index();
+        // prices are negotiated by companies; an individual client may share a professional client's id
+        int client = request.client() instanceof ProfessionalClient professional
+                ? negotiated.find(professional.clientId()) : -1;
+
+        CartTotalResponse response = client < 0
+                ? quoteCache.get(strategy, prices, items,
+                        () -> promotionEngine.apply(strategy, pricingEngine.price(prices, items)))
+                : promotionEngine.apply(strategy, pricingEngine.price(prices, negotiated, client, items));
+
+        cartMetrics.recordPricing(request.client(), strategy, request.items().size(), System.nanoTime() - start);
+        return view == CartView.TOTAL ? new CartTotalResponse(response.total(), List.of()) : response;
     }
 }
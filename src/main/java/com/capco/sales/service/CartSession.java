@@ -0,0 +1,184 @@
+package com.capco.sales.service;
+
+import com.capco.sales.catalog.NegotiatedPriceIndex;
+import com.capco.sales.dto.CartSessionResponse;
+import com.capco.sales.dto.ItemDetail;
+import com.capco.sales.model.ProductType;
+import com.capco.sales.pricing.PriceTable;
+import com.capco.sales.pricing.PricingStrategy;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Server-side cart of one client.
+ * Lines are kept per product type together with their line totals and the running cart total, so adding,
+ * changing or removing a line adjusts the total by the line difference instead of repricing the cart.
+ * The pricing strategy is resolved once, when the session is opened; the whole cart is only repriced
+ * when the strategy's price table, or the negotiated prices of a professional client, changed since the last
+ * operation. Promotions are left to the caller: they depend on the whole cart, of at most one line per product.
+ * Every line change is appended to the journal while the session is locked, so the journal holds
+ * the changes of a session in the order they were applied.
+ */
+final class CartSession {
+
+    private static final ProductType[] PRODUCT_TYPES = ProductType.values();
+
+    private final String id;
+    private final PricingStrategy strategy;
+    private final String clientId;
+    private final CartSessionJournal journal;
+    private final int[] quantities = new int[PRODUCT_TYPES.length];
+    private final BigDecimal[] lineTotals = new BigDecimal[PRODUCT_TYPES.length];
+    private PriceTable prices;
+    private BigDecimal total = BigDecimal.ZERO;
+    private PriceTable negotiatedTierPrices;
+    private NegotiatedPriceIndex negotiatedIndex;
+    private PriceTable negotiatedPrices;
+
+    /**
+     * @param id the session identifier
+     * @param strategy the pricing strategy of the client
+     * @param clientId the id negotiated prices are looked up by, or {@code null} for a client without any
+     * @param prices the current prices of the client
+     * @param journal the journal of line changes
+     */
+    CartSession(String id, PricingStrategy strategy, String clientId, PriceTable prices, CartSessionJournal journal) {
+        this.id = id;
+        this.strategy = strategy;
+        this.clientId = clientId;
+        this.prices = prices;
+        this.journal = journal;
+    }
+
+    String id() {
+        return id;
+    }
+
+    PricingStrategy strategy() {
+        return strategy;
+    }
+
+    String clientId() {
+        return clientId;
+    }
+
+    /**
+     * Looks the client's negotiated prices up, only when the tier prices or the negotiated price index changed,
+     * so that unchanged prices keep the same table and do not reprice the cart.
+     *
+     * @param tierPrices the current price table of the session's strategy
+     * @param negotiated the current negotiated price index
+     * @return the current prices of the session's client
+     */
+    synchronized PriceTable clientPrices(PriceTable tierPrices, NegotiatedPriceIndex negotiated) {
+        if (clientId == null) {
+            return tierPrices;
+        }
+        if (tierPrices != negotiatedTierPrices || negotiated != negotiatedIndex) {
+            negotiatedTierPrices = tierPrices;
+            negotiatedIndex = negotiated;
+            negotiatedPrices = negotiated.priceTable(negotiated.find(clientId), tierPrices);
+        }
+        return negotiatedPrices;
+    }
+
+    /**
+     * Adds to the quantity of a product, creating its line if needed.
+     *
+     * @param productType the product to add
+     * @param quantity the quantity to add
+     * @param currentPrices the current prices of the session's client
+     * @return the updated session
+     */
+    synchronized CartSessionResponse add(ProductType productType, int quantity, PriceTable currentPrices) {
+        refreshPrices(currentPrices);
+        updateLine(productType, Math.addExact(quantities[productType.ordinal()], quantity));
+        return toResponse();
+    }
+
+    /**
+     * Sets the quantity of a product; a quantity of zero removes its line.
+     *
+     * @param productType the product to update
+     * @param quantity the new quantity
+     * @param currentPrices the current prices of the session's client
+     * @return the updated session
+     */
+    synchronized CartSessionResponse setQuantity(ProductType productType, int quantity, PriceTable currentPrices) {
+        refreshPrices(currentPrices);
+        updateLine(productType, quantity);
+        return toResponse();
+    }
+
+    /**
+     * @param currentPrices the current prices of the session's client
+     * @return the current state of the session
+     */
+    synchronized CartSessionResponse view(PriceTable currentPrices) {
+        refreshPrices(currentPrices);
+        return toResponse();
+    }
+
+    /**
+     * @return a copy of the quantity of each product, indexed by ordinal
+     */
+    synchronized int[] quantities() {
+        return quantities.clone();
+    }
+
+    /**
+     * Restores the quantities of a recovered session without journaling them again.
+     *
+     * @param recovered the quantity of each product, indexed by ordinal
+     */
+    synchronized void restore(int[] recovered) {
+        System.arraycopy(recovered, 0, quantities, 0, Math.min(recovered.length, quantities.length));
+        PriceTable current = prices;
+        prices = null;
+        refreshPrices(current);
+    }
+
+    private void updateLine(ProductType productType, int quantity) {
+        int index = productType.ordinal();
+        BigDecimal lineTotal = quantity == 0 ? null : lineTotal(productType, quantity);
+        total = total.subtract(lineTotals[index] == null ? BigDecimal.ZERO : lineTotals[index])
+                     .add(lineTotal == null ? BigDecimal.ZERO : lineTotal);
+        quantities[index] = quantity;
+        lineTotals[index] = lineTotal;
+        journal.lineChanged(id, productType, quantity);
+    }
+
+    private void refreshPrices(PriceTable currentPrices) {
+        if (currentPrices == prices) {
+            return;
+        }
+        prices = currentPrices;
+        total = BigDecimal.ZERO;
+        for (ProductType productType : PRODUCT_TYPES) {
+            int index = productType.ordinal();
+            lineTotals[index] = quantities[index] > 0 ? lineTotal(productType, quantities[index]) : null;
+            if (lineTotals[index] != null) {
+                total = total.add(lineTotals[index]);
+            }
+        }
+    }
+
+    private BigDecimal lineTotal(ProductType productType, int quantity) {
+        return prices.unitPrice(productType).multiply(BigDecimal.valueOf(quantity));
+    }
+
+    private CartSessionResponse toResponse() {
+        List<ItemDetail> itemDetails = new ArrayList<>(PRODUCT_TYPES.length);
+        for (ProductType productType : PRODUCT_TYPES) {
+            int index = productType.ordinal();
+            if (quantities[index] > 0) {
+                itemDetails.add(new ItemDetail(productType, quantities[index], prices.unitPrice(productType),
+                        lineTotals[index]));
+            }
+        }
+        return new CartSessionResponse(id, total, Collections.unmodifiableList(itemDetails));
+    }
+}
@@ -0,0 +1,584 @@
+package com.capco.sales.service;
+
+import com.capco.sales.config.CartProperties;
+import com.capco.sales.model.ProductType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Write-ahead journal and snapshots of cart sessions, so sessions survive a restart without an external database.
+ * <p>
+ * Session creations (with the tier and negotiated price client of the session), line changes (as absolute
+ * quantities) and deletions, including the evictions and expiries of the session store, are appended as checksummed
+ * records to pre-sized, memory-mapped segment files. A single writer thread drains the pending records in batches,
+ * writes them and forces the batch to disk with one fsync (group commit); a caller waits for the batch holding its
+ * own last record, so concurrent callers share fsyncs instead of paying one each.
+ * <p>
+ * A snapshot periodically rolls the journal to a new segment, writes every live session to a compacted snapshot
+ * file and deletes the older segments and snapshots. Recovery loads the latest snapshot and replays only the
+ * segments written since, so startup time is bounded by the snapshot interval rather than by the session history.
+ * A torn record at the end of a segment, left by a crash during a write, ends the replay of that segment.
+ * <p>
+ * The journal is disabled, and every method a no-op, when no directory is configured.
+ */
+@Slf4j
+@Component
+class CartSessionJournal {
+
+    private static final ProductType[] PRODUCT_TYPES = ProductType.values();
+
+    private static final byte SESSION_CREATED = 1;
+    private static final byte LINE_CHANGED = 2;
+    private static final byte SESSION_DELETED = 3;
+
+    /** Record header: body length and CRC-32 of the body. */
+    private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+
+    /** Strings are prefixed with their length in UTF-8 bytes as an unsigned short. */
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+
+    private static final int SNAPSHOT_MAGIC = 0x43534E51;
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxBatchSize;
+    private final Duration snapshotInterval;
+    private final BlockingQueue<Pending> pending = new LinkedBlockingQueue<>();
+    private final ThreadLocal<Pending> lastAppended = new ThreadLocal<>();
+
+    private long nextSegmentIndex;
+    private CartSessionStore store;
+    private Thread writer;
+    private ScheduledExecutorService snapshotter;
+
+    // segment state, only touched by the writer thread once started
+    private long segmentIndex;
+    private FileChannel segmentChannel;
+    private MappedByteBuffer segment;
+    private int forcedPosition;
+
+    CartSessionJournal(CartProperties cartProperties) {
+        CartProperties.Journal properties = cartProperties.getSessions().getJournal();
+        this.directory = properties.getDirectory();
+        this.segmentSize = Math.toIntExact(properties.getSegmentSize().toBytes());
+        this.maxBatchSize = properties.getMaxBatchSize();
+        this.snapshotInterval = properties.getSnapshotInterval();
+    }
+
+    boolean isEnabled() {
+        return directory != null;
+    }
+
+    /**
+     * Loads the latest snapshot and replays the journal segments written after it.
+     *
+     * @return the recovered sessions by id, in creation order
+     */
+    Map<String, RecoveredSession> recover() {
+        Map<String, RecoveredSession> sessions = new LinkedHashMap<>();
+        if (!isEnabled()) {
+            return sessions;
+        }
+        try {
+            Files.createDirectories(directory);
+            long fromSegment = loadLatestSnapshot(sessions);
+            long lastSegment = fromSegment - 1;
+            for (Path file : files(SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+                long index = fileIndex(file, SEGMENT_PREFIX, SEGMENT_SUFFIX);
+                if (index >= fromSegment) {
+                    replay(file, sessions);
+                    lastSegment = Math.max(lastSegment, index);
+                }
+            }
+            nextSegmentIndex = lastSegment + 1;
+            log.info("Recovered {} cart sessions from {}", sessions.size(), directory);
+            return sessions;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot recover cart sessions from " + directory, ex);
+        }
+    }
+
+    /**
+     * Opens a new journal segment and starts the writer and the periodic snapshots.
+     *
+     * @param sessionStore the store whose sessions are snapshotted and whose evictions are journaled
+     */
+    void start(CartSessionStore sessionStore) {
+        if (!isEnabled()) {
+            return;
+        }
+        this.store = sessionStore;
+        sessionStore.onEviction(this::sessionEvicted);
+        try {
+            openSegment(nextSegmentIndex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot open cart session journal in " + directory, ex);
+        }
+
+        writer = new Thread(this::writeLoop, "cart-session-journal");
+        writer.setDaemon(true);
+        writer.start();
+
+        snapshotter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cart-session-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = snapshotInterval.toMillis();
+        snapshotter.scheduleWithFixedDelay(this::snapshotQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    void sessionCreated(String sessionId, String tier, String clientId) {
+        if (isEnabled()) {
+            append(record(SESSION_CREATED, sessionId, tier, clientId, null, 0));
+        }
+    }
+
+    void lineChanged(String sessionId, ProductType productType, int quantity) {
+        if (isEnabled()) {
+            append(record(LINE_CHANGED, sessionId, null, null, productType, quantity));
+        }
+    }
+
+    void sessionDeleted(String sessionId) {
+        if (isEnabled()) {
+            append(record(SESSION_DELETED, sessionId, null, null, null, 0));
+        }
+    }
+
+    /**
+     * Journals the deletion of a session dropped by the store; nobody waits for it to be durable, as a session
+     * restored by mistake only lives until it expires again.
+     */
+    void sessionEvicted(String sessionId) {
+        pending.add(new Pending(record(SESSION_DELETED, sessionId, null, null, null, 0), new CompletableFuture<>()));
+    }
+
+    /**
+     * Blocks until every record appended by the current thread is on disk.
+     */
+    void awaitDurable() {
+        Pending last = lastAppended.get();
+        if (last != null) {
+            lastAppended.remove();
+            last.committed().join();
+        }
+    }
+
+    /**
+     * Writes a compacted snapshot of all live sessions and deletes the journal segments and snapshots it replaces.
+     *
+     * @throws IOException if the snapshot cannot be written; the journal then remains the source of truth
+     */
+    void snapshot() throws IOException {
+        if (!isEnabled() || writer == null) {
+            return;
+        }
+        Pending roll = new Pending(null, new CompletableFuture<>());
+        pending.add(roll);
+        long fromSegment = roll.committed().join();
+
+        Path snapshot = directory.resolve(fileName(SNAPSHOT_PREFIX, fromSegment, SNAPSHOT_SUFFIX));
+        Path temporary = directory.resolve(snapshot.getFileName() + ".tmp");
+        int sessions = writeSnapshot(temporary, fromSegment);
+        Files.move(temporary, snapshot, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        syncDirectory();
+
+        for (Path file : files(SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+            if (fileIndex(file, SEGMENT_PREFIX, SEGMENT_SUFFIX) < fromSegment) {
+                Files.deleteIfExists(file);
+            }
+        }
+        for (Path file : files(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+            if (fileIndex(file, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX) < fromSegment) {
+                Files.deleteIfExists(file);
+            }
+        }
+        log.debug("Snapshotted {} cart sessions, journal continues at segment {}", sessions, fromSegment);
+    }
+
+    /**
+     * Takes a last snapshot, so the next start does not replay anything, and stops the writer.
+     */
+    @PreDestroy
+    void close() {
+        if (writer == null) {
+            return;
+        }
+        snapshotter.shutdownNow();
+        snapshotQuietly();
+
+        Pending stop = new Pending(null, null);
+        pending.add(stop);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+    }
+
+    private void append(byte[] record) {
+        Pending entry = new Pending(record, new CompletableFuture<>());
+        pending.add(entry);
+        lastAppended.set(entry);
+    }
+
+    private void writeLoop() {
+        List<Pending> batch = new ArrayList<>(maxBatchSize);
+        boolean stopped = false;
+        while (!stopped) {
+            try {
+                batch.add(pending.take());
+            } catch (InterruptedException ex) {
+                break;
+            }
+            pending.drainTo(batch, maxBatchSize - 1);
+
+            try {
+                for (Pending entry : batch) {
+                    if (entry.committed() == null) {
+                        stopped = true;
+                    } else if (entry.record() == null) {
+                        rollSegment();
+                        entry.committed().complete(segmentIndex);
+                    } else {
+                        write(entry.record());
+                    }
+                }
+                force();
+                for (Pending entry : batch) {
+                    if (entry.committed() != null) {
+                        entry.committed().complete(segmentIndex);
+                    }
+                }
+            } catch (IOException | RuntimeException ex) {
+                log.error("Cannot write cart session journal segment {}", segmentIndex, ex);
+                for (Pending entry : batch) {
+                    if (entry.committed() != null) {
+                        entry.committed().completeExceptionally(ex);
+                    }
+                }
+            }
+            batch.clear();
+        }
+        closeSegment();
+    }
+
+    private void write(byte[] record) throws IOException {
+        if (segment.remaining() < record.length) {
+            rollSegment();
+        }
+        segment.put(record);
+    }
+
+    private void force() {
+        int position = segment.position();
+        if (position > forcedPosition) {
+            segment.force(forcedPosition, position - forcedPosition);
+            forcedPosition = position;
+        }
+    }
+
+    private void rollSegment() throws IOException {
+        force();
+        closeSegment();
+        openSegment(segmentIndex + 1);
+    }
+
+    private void openSegment(long index) throws IOException {
+        Path file = directory.resolve(fileName(SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+        segmentChannel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        segment = segmentChannel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        segmentChannel.force(true);
+        syncDirectory();
+        segmentIndex = index;
+        forcedPosition = 0;
+    }
+
+    private void closeSegment() {
+        try {
+            if (segmentChannel != null) {
+                segmentChannel.close();
+            }
+        } catch (IOException ex) {
+            log.warn("Cannot close cart session journal segment {}", segmentIndex, ex);
+        }
+        segmentChannel = null;
+        segment = null;
+    }
+
+    private int writeSnapshot(Path file, long fromSegment) throws IOException {
+        int[] sessions = new int[1];
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            CheckedOutputStream checked = new CheckedOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel)), new CRC32());
+            DataOutputStream out = new DataOutputStream(checked);
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeLong(fromSegment);
+            try {
+                store.forEach(session -> {
+                    try {
+                        out.writeBoolean(true);
+                        writeString(out, session.id());
+                        writeString(out, session.strategy().tier());
+                        writeString(out, session.clientId() != null ? session.clientId() : "");
+                        int[] quantities = session.quantities();
+                        out.writeByte(quantities.length);
+                        for (int quantity : quantities) {
+                            out.writeInt(quantity);
+                        }
+                        sessions[0]++;
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+            out.writeBoolean(false);
+            out.writeLong(checked.getChecksum().getValue());
+            out.flush();
+            channel.force(true);
+        }
+        return sessions[0];
+    }
+
+    private long loadLatestSnapshot(Map<String, RecoveredSession> sessions) throws IOException {
+        List<Path> snapshots = files(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            Path file = snapshots.get(i);
+            byte[] content = Files.readAllBytes(file);
+            if (content.length < Integer.BYTES + 2 * Long.BYTES + 1) {
+                log.warn("Ignoring truncated cart session snapshot {}", file);
+                continue;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(content, 0, content.length - Long.BYTES);
+            if (crc.getValue() != ByteBuffer.wrap(content, content.length - Long.BYTES, Long.BYTES).getLong()) {
+                log.warn("Ignoring corrupt cart session snapshot {}", file);
+                continue;
+            }
+
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(content));
+            int magic = in.readInt();
+            if (magic != SNAPSHOT_MAGIC) {
+                log.warn("Ignoring unknown file {}", file);
+                continue;
+            }
+            long fromSegment = in.readLong();
+            while (in.readBoolean()) {
+                String sessionId = readString(in);
+                String tier = readString(in);
+                String clientId = readString(in);
+                int[] quantities = new int[PRODUCT_TYPES.length];
+                int lines = in.readUnsignedByte();
+                for (int line = 0; line < lines; line++) {
+                    int quantity = in.readInt();
+                    if (line < quantities.length) {
+                        quantities[line] = quantity;
+                    }
+                }
+                sessions.put(sessionId, new RecoveredSession(tier, clientId.isEmpty() ? null : clientId, quantities));
+            }
+            return fromSegment;
+        }
+        return 0;
+    }
+
+    private void replay(Path file, Map<String, RecoveredSession> sessions) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            CRC32 crc = new CRC32();
+            while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+                int length = buffer.getInt();
+                if (length == 0) {
+                    return;
+                }
+                int checksum = buffer.getInt();
+                if (length < 0 || length > buffer.remaining()) {
+                    log.warn("Ignoring torn record at the end of {}", file);
+                    return;
+                }
+                byte[] body = new byte[length];
+                buffer.get(body);
+                crc.reset();
+                crc.update(body);
+                if ((int) crc.getValue() != checksum) {
+                    log.warn("Ignoring torn record at the end of {}", file);
+                    return;
+                }
+                apply(ByteBuffer.wrap(body), sessions);
+            }
+        }
+    }
+
+    private static void apply(ByteBuffer body, Map<String, RecoveredSession> sessions) {
+        byte type = body.get();
+        String sessionId = readString(body);
+        switch (type) {
+            case SESSION_CREATED -> {
+                String tier = readString(body);
+                String clientId = readString(body);
+                clientId = clientId.isEmpty() ? null : clientId;
+                sessions.putIfAbsent(sessionId, new RecoveredSession(tier, clientId, new int[PRODUCT_TYPES.length]));
+            }
+            case LINE_CHANGED -> {
+                RecoveredSession session = sessions.get(sessionId);
+                int ordinal = body.get();
+                int quantity = body.getInt();
+                if (session != null && ordinal < session.quantities().length) {
+                    session.quantities()[ordinal] = quantity;
+                }
+            }
+            case SESSION_DELETED -> sessions.remove(sessionId);
+            default -> throw new IllegalStateException("Unknown cart session journal record type " + type);
+        }
+    }
+
+    private static byte[] record(byte type, String sessionId, String tier, String clientId, ProductType productType,
+                                 int quantity) {
+        byte[] id = utf8(sessionId);
+        byte[] tierBytes = tier != null ? utf8(tier) : null;
+        // SESSION_CREATED records always carry the client id, empty when there is none
+        byte[] clientBytes = tier != null ? utf8(clientId != null ? clientId : "") : null;
+        int length = 1 + Short.BYTES + id.length
+                + (tierBytes != null ? 2 * Short.BYTES + tierBytes.length + clientBytes.length : 0)
+                + (productType != null ? 1 + Integer.BYTES : 0);
+
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_SIZE + length);
+        buffer.putInt(length).putInt(0).put(type).putShort((short) id.length).put(id);
+        if (tierBytes != null) {
+            buffer.putShort((short) tierBytes.length).put(tierBytes);
+            buffer.putShort((short) clientBytes.length).put(clientBytes);
+        }
+        if (productType != null) {
+            buffer.put((byte) productType.ordinal()).putInt(quantity);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), RECORD_HEADER_SIZE, length);
+        buffer.putInt(Integer.BYTES, (int) crc.getValue());
+        return buffer.array();
+    }
+
+    /**
+     * @throws IllegalArgumentException if the value does not fit the unsigned short length prefix
+     */
+    private static byte[] utf8(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("Cannot journal a string of " + bytes.length + " UTF-8 bytes, at most "
+                    + MAX_STRING_BYTES + " are supported");
+        }
+        return bytes;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = utf8(value);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readUnsignedShort()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException ex) {
+            log.error("Cannot snapshot cart sessions to {}", directory, ex);
+        }
+    }
+
+    private void syncDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ex) {
+            // not supported on every platform; file contents are forced regardless
+        }
+    }
+
+    private List<Path> files(String prefix, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                            String name = file.getFileName().toString();
+                            return name.startsWith(prefix) && name.endsWith(suffix);
+                        })
+                        .sorted(Comparator.comparingLong(file -> fileIndex(file, prefix, suffix)))
+                        .toList();
+        }
+    }
+
+    private static String fileName(String prefix, long index, String suffix) {
+        return prefix + String.format("%020d", index) + suffix;
+    }
+
+    private static long fileIndex(Path file, String prefix, String suffix) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length()));
+    }
+
+    /**
+     * Session state rebuilt from the snapshot and journal.
+     *
+     * @param tier the pricing tier of the session
+     * @param clientId the id negotiated prices are looked up by, or {@code null}
+     * @param quantities the quantity of each product, indexed by ordinal
+     */
+    record RecoveredSession(String tier, String clientId, int[] quantities) {
+    }
+
+    /**
+     * Record waiting for the writer; a {@code null} record rolls the journal and a {@code null} future stops it.
+     */
+    private record Pending(byte[] record, CompletableFuture<Long> committed) {
+    }
+}
@@ -0,0 +1,182 @@
+package com.capco.sales.service;
+
+import com.capco.sales.catalog.NegotiatedPrices;
+import com.capco.sales.catalog.PriceCatalog;
+import com.capco.sales.dto.CartItemDto;
+import com.capco.sales.dto.CartSessionRequest;
+import com.capco.sales.dto.CartSessionResponse;
+import com.capco.sales.dto.CartTotalResponse;
+import com.capco.sales.exception.CartSessionNotFoundException;
+import com.capco.sales.model.ProductType;
+import com.capco.sales.model.ProfessionalClient;
+import com.capco.sales.pricing.PriceTable;
+import com.capco.sales.pricing.PricingStrategy;
+import com.capco.sales.pricing.PricingStrategyResolver;
+import com.capco.sales.pricing.PromotionEngine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * Service managing server-side cart sessions.
+ * A session resolves the client's pricing strategy once and keeps running totals, so each line mutation
+ * costs constant time whatever the size of the cart, and callers no longer resend the whole cart.
+ * Sessions are priced like the carts of {@link CartService}: professional clients pay their negotiated prices,
+ * and the promotions of the tier are applied to every returned state of the cart.
+ * When the session journal is enabled, a change is acknowledged only once it is durable, and the sessions
+ * of the previous run are restored on startup.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CartSessionService {
+
+    private final PriceCatalog priceCatalog;
+    private final PricingStrategyResolver strategyResolver;
+    private final NegotiatedPrices negotiatedPrices;
+    private final PromotionEngine promotionEngine;
+    private final CartSessionStore sessionStore;
+    private final CartSessionJournal journal;
+
+    /**
+     * Restores the sessions persisted by the journal, then starts journaling.
+     */
+    @PostConstruct
+    void restoreSessions() {
+        journal.recover().forEach((sessionId, recovered) -> {
+            PricingStrategy strategy;
+            try {
+                strategy = strategyResolver.forTier(recovered.tier());
+            } catch (IllegalArgumentException ex) {
+                log.warn("Dropping cart session {} of unknown pricing tier {}", sessionId, recovered.tier());
+                return;
+            }
+            CartSession session = new CartSession(sessionId, strategy, recovered.clientId(),
+                    priceCatalog.priceTable(strategy), journal);
+            session.restore(recovered.quantities());
+            sessionStore.put(session);
+        });
+        journal.start(sessionStore);
+    }
+
+    /**
+     * Opens a cart session for a client.
+     *
+     * @param request the client and optional initial items
+     * @return the new session
+     */
+    public CartSessionResponse create(CartSessionRequest request) {
+        PricingStrategy strategy = strategyResolver.resolve(request.client());
+        // prices are negotiated by companies, as for carts priced by the CartService
+        String clientId = request.client() instanceof ProfessionalClient professional ? professional.clientId() : null;
+        CartSession session = new CartSession(UUID.randomUUID().toString(), strategy, clientId,
+                priceCatalog.priceTable(strategy), journal);
+        PriceTable prices = currentPrices(session);
+        // stored before its first record, so a snapshot rolling the journal meanwhile cannot miss it
+        sessionStore.put(session);
+        journal.sessionCreated(session.id(), strategy.tier(), clientId);
+        if (request.items() != null) {
+            for (CartItemDto item : request.items()) {
+                session.add(item.productType(), item.quantity(), prices);
+            }
+        }
+
+        journal.awaitDurable();
+        return withPromotions(session, session.view(prices));
+    }
+
+    /**
+     * @param sessionId the session identifier
+     * @return the current state of the session
+     * @throws CartSessionNotFoundException if the session does not exist or has expired
+     */
+    public CartSessionResponse get(String sessionId) {
+        CartSession session = find(sessionId);
+        return withPromotions(session, session.view(currentPrices(session)));
+    }
+
+    /**
+     * Adds an item to the cart; its quantity is added to the product's line if there is one.
+     *
+     * @param sessionId the session identifier
+     * @param item the product and quantity to add
+     * @return the updated session
+     * @throws CartSessionNotFoundException if the session does not exist or has expired
+     */
+    public CartSessionResponse addItem(String sessionId, CartItemDto item) {
+        CartSession session = find(sessionId);
+        CartSessionResponse response = session.add(item.productType(), item.quantity(), currentPrices(session));
+        journal.awaitDurable();
+        return withPromotions(session, response);
+    }
+
+    /**
+     * Sets the quantity of a product in the cart, adding its line if needed.
+     *
+     * @param sessionId the session identifier
+     * @param productType the product to update
+     * @param quantity the new quantity
+     * @return the updated session
+     * @throws CartSessionNotFoundException if the session does not exist or has expired
+     */
+    public CartSessionResponse changeQuantity(String sessionId, ProductType productType, int quantity) {
+        CartSession session = find(sessionId);
+        CartSessionResponse response = session.setQuantity(productType, quantity, currentPrices(session));
+        journal.awaitDurable();
+        return withPromotions(session, response);
+    }
+
+    /**
+     * Removes the line of a product from the cart; removing a product that is not in the cart is a no-op.
+     *
+     * @param sessionId the session identifier
+     * @param productType the product to remove
+     * @return the updated session
+     * @throws CartSessionNotFoundException if the session does not exist or has expired
+     */
+    public CartSessionResponse removeItem(String sessionId, ProductType productType) {
+        CartSession session = find(sessionId);
+        CartSessionResponse response = session.setQuantity(productType, 0, currentPrices(session));
+        journal.awaitDurable();
+        return withPromotions(session, response);
+    }
+
+    /**
+     * Closes a cart session.
+     *
+     * @param sessionId the session identifier
+     * @throws CartSessionNotFoundException if the session does not exist or has expired
+     */
+    public void delete(String sessionId) {
+        if (!sessionStore.remove(sessionId)) {
+            throw new CartSessionNotFoundException(sessionId);
+        }
+        journal.sessionDeleted(sessionId);
+        journal.awaitDurable();
+    }
+
+    private CartSession find(String sessionId) {
+        CartSession session = sessionStore.get(sessionId);
+        if (session == null) {
+            throw new CartSessionNotFoundException(sessionId);
+        }
+        return session;
+    }
+
+    private PriceTable currentPrices(CartSession session) {
+        return session.clientPrices(priceCatalog.priceTable(session.strategy()), negotiatedPrices.index());
+    }
+
+    /**
+     * Applies the promotions of the session's tier to a state of its cart, which holds at most one line per product.
+     */
+    private CartSessionResponse withPromotions(CartSession session, CartSessionResponse response) {
+        CartTotalResponse priced = new CartTotalResponse(response.total(), response.itemDetails());
+        CartTotalResponse promoted = promotionEngine.apply(session.strategy(), priced);
+        return promoted == priced ? response
+                : new CartSessionResponse(response.sessionId(), promoted.total(), promoted.itemDetails());
+    }
+}
@@ -0,0 +1,333 @@
+package com.capco.sales.service;
+
+import com.capco.sales.config.CartProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory store of live cart sessions, split into independently locked shards.
+ * <p>
+ * A session id always maps to the same shard, and each shard is a small access-ordered map guarded by its
+ * own lock, so concurrent lookups of different carts rarely contend and no resize ever spans the whole store.
+ * The store lock is only held for the lookup itself: cart mutations synchronize on the session alone.
+ * <p>
+ * Each shard holds at most its share of the configured maximum and evicts its least recently used session
+ * beyond it. Sessions idle for longer than the configured timeout are never returned and are removed by a
+ * background sweeper; as shards are in access order, a sweep only visits the expired sessions of each shard.
+ * Every session the store drops by itself, evicted or expired, is reported to the eviction listener.
+ */
+@Component
+class CartSessionStore implements MeterBinder {
+
+    private final Shard[] shards;
+    private final int shardMask;
+    private final long idleTimeoutNanos;
+    private final long sweepIntervalNanos;
+    private final LongSupplier nanoClock;
+    private final LongAdder sizeEvictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private volatile Consumer<String> evictionListener = sessionId -> {
+    };
+    private ScheduledExecutorService sweeper;
+
+    @Autowired
+    CartSessionStore(CartProperties cartProperties) {
+        this(cartProperties, System::nanoTime);
+    }
+
+    CartSessionStore(CartProperties cartProperties, LongSupplier nanoClock) {
+        CartProperties.Sessions properties = cartProperties.getSessions();
+        int shardCount = shardCount(properties.getShards());
+        int shardCapacity = (int) Math.max(1, Math.min(Integer.MAX_VALUE,
+                (properties.getMaximumSize() + shardCount - 1) / shardCount));
+
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(shardCapacity);
+        }
+        this.shardMask = shardCount - 1;
+        this.idleTimeoutNanos = properties.getIdleTimeout().toNanos();
+        this.sweepIntervalNanos = properties.getSweepInterval().toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Sets the action run with the id of each session the store drops by itself, because it was the least recently
+     * used beyond the maximum size or because it expired; it runs under a shard lock and must not block.
+     *
+     * @param listener the eviction listener
+     */
+    void onEviction(Consumer<String> listener) {
+        this.evictionListener = listener;
+    }
+
+    void put(CartSession session) {
+        shardOf(session.id()).put(session);
+    }
+
+    /**
+     * @param sessionId the session identifier
+     * @return the session, or {@code null} if it does not exist or has expired
+     */
+    CartSession get(String sessionId) {
+        return shardOf(sessionId).get(sessionId);
+    }
+
+    /**
+     * @param sessionId the session identifier
+     * @return whether a live session was removed
+     */
+    boolean remove(String sessionId) {
+        return shardOf(sessionId).remove(sessionId);
+    }
+
+    /**
+     * @return the number of stored sessions, expired ones not swept yet included
+     */
+    long size() {
+        long size = 0;
+        for (Shard shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    /**
+     * Visits every live session; each shard is only locked while its sessions are collected.
+     *
+     * @param action the action to run on each session
+     */
+    void forEach(Consumer<CartSession> action) {
+        for (Shard shard : shards) {
+            shard.liveSessions().forEach(action);
+        }
+    }
+
+    /**
+     * @return the number of shards
+     */
+    int shardCount() {
+        return shards.length;
+    }
+
+    /**
+     * Removes the expired sessions of every shard, one shard lock at a time.
+     */
+    void sweep() {
+        for (Shard shard : shards) {
+            shard.sweep();
+        }
+    }
+
+    @PostConstruct
+    void startSweeping() {
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cart-session-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::sweep, sweepIntervalNanos, sweepIntervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    void stopSweeping() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    /**
+     * Publishes {@code cart.sessions.active}, the per-shard {@code cart.sessions.shard.occupancy} and
+     * {@code cart.sessions.evictions} tagged by {@code cause} ({@code size} or {@code expired}).
+     *
+     * @param registry the registry to bind to
+     */
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder("cart.sessions.active", this, CartSessionStore::size)
+             .description("Stored cart sessions")
+             .register(registry);
+        for (int i = 0; i < shards.length; i++) {
+            Gauge.builder("cart.sessions.shard.occupancy", shards[i], Shard::size)
+                 .description("Cart sessions stored in a store shard")
+                 .tag("shard", Integer.toString(i))
+                 .register(registry);
+        }
+        FunctionCounter.builder("cart.sessions.evictions", sizeEvictions, LongAdder::sum)
+                       .description("Cart sessions evicted from the store")
+                       .tag("cause", "size")
+                       .register(registry);
+        FunctionCounter.builder("cart.sessions.evictions", expirations, LongAdder::sum)
+                       .description("Cart sessions evicted from the store")
+                       .tag("cause", "expired")
+                       .register(registry);
+    }
+
+    private Shard shardOf(String sessionId) {
+        int hash = sessionId.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & shardMask];
+    }
+
+    private static int shardCount(int configured) {
+        int shards = configured > 0 ? configured : 4 * Runtime.getRuntime().availableProcessors();
+        return shards <= 1 ? 1 : Integer.highestOneBit(shards - 1) << 1;
+    }
+
+    /**
+     * Session with the time it was last looked up, guarded by the lock of its shard.
+     */
+    private static final class Entry {
+
+        final CartSession session;
+        long lastAccessNanos;
+
+        Entry(CartSession session, long lastAccessNanos) {
+            this.session = session;
+            this.lastAccessNanos = lastAccessNanos;
+        }
+    }
+
+    /**
+     * Access-ordered map of sessions guarded by its own lock; the eldest entry is the least recently used.
+     */
+    /**
+     * Partition of the sessions under one lock. The clock is read under the lock, so the access order of the
+     * entries matches their access times and a sweep can stop at the first live entry.
+     */
+    private final class Shard {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, Entry> entries;
+
+        Shard(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    if (size() <= capacity) {
+                        return false;
+                    }
+                    sizeEvictions.increment();
+                    evictionListener.accept(eldest.getKey());
+                    return true;
+                }
+            };
+        }
+
+        void put(CartSession session) {
+            lock.lock();
+            try {
+                long now = nanoClock.getAsLong();
+                entries.put(session.id(), new Entry(session, now));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        CartSession get(String sessionId) {
+            lock.lock();
+            try {
+                long now = nanoClock.getAsLong();
+                Entry entry = entries.get(sessionId);
+                if (entry == null) {
+                    return null;
+                }
+                if (isExpired(entry, now)) {
+                    entries.remove(sessionId);
+                    expire(sessionId);
+                    return null;
+                }
+                entry.lastAccessNanos = now;
+                return entry.session;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean remove(String sessionId) {
+            lock.lock();
+            try {
+                long now = nanoClock.getAsLong();
+                Entry entry = entries.remove(sessionId);
+                if (entry != null && isExpired(entry, now)) {
+                    expire(sessionId);
+                    return false;
+                }
+                return entry != null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void sweep() {
+            lock.lock();
+            try {
+                long now = nanoClock.getAsLong();
+                Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    Map.Entry<String, Entry> next = iterator.next();
+                    if (!isExpired(next.getValue(), now)) {
+                        break;
+                    }
+                    iterator.remove();
+                    expire(next.getKey());
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        List<CartSession> liveSessions() {
+            lock.lock();
+            try {
+                long now = nanoClock.getAsLong();
+                List<CartSession> sessions = new ArrayList<>(entries.size());
+                for (Entry entry : entries.values()) {
+                    if (!isExpired(entry, now)) {
+                        sessions.add(entry.session);
+                    }
+                }
+                return sessions;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void expire(String sessionId) {
+            expirations.increment();
+            evictionListener.accept(sessionId);
+        }
+
+        private boolean isExpired(Entry entry, long now) {
+            return now - entry.lastAccessNanos > idleTimeoutNanos;
+        }
+    }
+}
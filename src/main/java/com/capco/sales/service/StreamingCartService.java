@@ -0,0 +1,239 @@
+package com.capco.sales.service;
+
+import com.capco.sales.dto.CartItemDto;
+import com.capco.sales.dto.CartTotalResponse;
+import com.capco.sales.dto.CartView;
+import com.capco.sales.dto.LineAggregation;
+import com.capco.sales.dto.ShoppingCartRequest;
+import com.capco.sales.exception.CartValidationException;
+import com.capco.sales.metrics.CartMetrics;
+import com.capco.sales.model.Client;
+import com.capco.sales.model.ProductType;
+import com.capco.sales.validation.ShoppingCartRequestValidator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service pricing a shopping cart while its JSON body is being read.
+ * <p>
+ * The body has the shape of a {@link ShoppingCartRequest}. The client is bound with the application's
+ * {@link ObjectMapper}; cart lines are read token by token with a {@link JsonParser} and validated as they arrive,
+ * with the same errors as {@link ShoppingCartRequestValidator}, so no {@link ShoppingCartRequest} is bound.
+ * <p>
+ * Unless the {@link CartView#FULL full view} is requested, each line is folded into the running quantity of its
+ * product type as soon as it is read and then dropped, so memory does not depend on the number of lines; the folded
+ * lines are priced as with {@link LineAggregation#PRODUCT_TYPE}, as {@link CartService} prices these views.
+ * Otherwise, the lines read are priced like a bound request.
+ */
+@Service
+public class StreamingCartService {
+
+    private static final ProductType[] PRODUCT_TYPES = ProductType.values();
+
+    private final CartService cartService;
+    private final CartMetrics cartMetrics;
+    private final ObjectMapper objectMapper;
+
+    public StreamingCartService(CartService cartService, CartMetrics cartMetrics, ObjectMapper objectMapper) {
+        this.cartService = cartService;
+        this.cartMetrics = cartMetrics;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Prices the cart of a JSON body.
+     *
+     * @param body the JSON shopping cart request
+     * @param aggregation how cart lines are folded before pricing in the full view, or {@code null} for the
+     *                    configured mode
+     * @param view how much of the priced cart the response carries
+     * @return the cart total response, with the item details of the view
+     * @throws IOException if the body cannot be read or is not a valid cart request
+     * @throws CartValidationException if the cart request is invalid
+     */
+    public CartTotalResponse calculateTotal(InputStream body, LineAggregation aggregation, CartView view)
+            throws IOException {
+        long start = System.nanoTime();
+        CartLines lines = view == CartView.FULL ? new ListedLines() : new FoldedLines();
+        Client client = null;
+        boolean hasItems = false;
+        Map<String, String> errors = null;
+
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw MismatchedInputException.from(parser, ShoppingCartRequest.class,
+                        "Cart request must be a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "client" -> client = parser.currentToken() == JsonToken.VALUE_NULL
+                            ? null : parser.readValueAs(Client.class);
+                    case "items" -> {
+                        if (hasItems) {
+                            throw MismatchedInputException.from(parser, ShoppingCartRequest.class,
+                                    "Duplicate field \"items\"");
+                        }
+                        hasItems = true;
+                        errors = readLines(parser, lines, errors);
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        cartMetrics.recordJsonParse(System.nanoTime() - start);
+
+        errors = ShoppingCartRequestValidator.validateClient(errors, client);
+        errors = ShoppingCartRequestValidator.validateLineCount(errors, lines.count());
+        if (errors != null) {
+            throw new CartValidationException(errors);
+        }
+
+        return cartService.calculateTotal(new ShoppingCartRequest(client, lines.items()), aggregation, view);
+    }
+
+    private static Map<String, String> readLines(JsonParser parser, CartLines lines, Map<String, String> errors)
+            throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return errors;
+        }
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw MismatchedInputException.from(parser, List.class, "Cart items must be a JSON array");
+        }
+
+        int index = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                throw MismatchedInputException.from(parser, CartItemDto.class, "Cart item must be a JSON object");
+            }
+            ProductType productType = null;
+            Integer quantity = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "productType" -> productType = readProductType(parser, value);
+                    case "quantity" -> quantity = readQuantity(parser, value);
+                    default -> parser.skipChildren();
+                }
+            }
+
+            errors = ShoppingCartRequestValidator.validateLine(errors, index, productType, quantity);
+            // once the cart is known to be invalid, lines are only read to report their errors
+            if (errors == null) {
+                lines.add(productType, quantity);
+            }
+            index++;
+        }
+        lines.setCount(index);
+        return errors;
+    }
+
+    private static ProductType readProductType(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (value == JsonToken.VALUE_STRING) {
+            String name = parser.getText();
+            for (ProductType productType : PRODUCT_TYPES) {
+                if (productType.name().equals(name)) {
+                    return productType;
+                }
+            }
+        }
+        throw InvalidFormatException.from(parser, "Unknown product type", parser.getText(), ProductType.class);
+    }
+
+    private static Integer readQuantity(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (value != JsonToken.VALUE_NUMBER_INT) {
+            throw MismatchedInputException.from(parser, Integer.class, "Quantity must be an integer");
+        }
+        return parser.getIntValue();
+    }
+
+    /**
+     * Lines of the cart being read.
+     */
+    private abstract static class CartLines {
+
+        private int count;
+
+        abstract void add(ProductType productType, int quantity);
+
+        /**
+         * @return the lines to price
+         */
+        abstract List<CartItemDto> items();
+
+        int count() {
+            return count;
+        }
+
+        void setCount(int count) {
+            this.count = count;
+        }
+    }
+
+    /**
+     * Every line, as read.
+     */
+    private static final class ListedLines extends CartLines {
+
+        private final List<CartItemDto> items = new ArrayList<>();
+
+        @Override
+        void add(ProductType productType, int quantity) {
+            items.add(new CartItemDto(productType, quantity));
+        }
+
+        @Override
+        List<CartItemDto> items() {
+            return items;
+        }
+    }
+
+    /**
+     * Running quantity of each product type. A product's quantity is flushed to a line of its own before it
+     * overflows an {@code int}, so there are a handful of lines whatever the size of the cart.
+     */
+    private static final class FoldedLines extends CartLines {
+
+        private final long[] quantities = new long[PRODUCT_TYPES.length];
+        private final List<CartItemDto> overflow = new ArrayList<>();
+
+        @Override
+        void add(ProductType productType, int quantity) {
+            int ordinal = productType.ordinal();
+            if (quantities[ordinal] + quantity > Integer.MAX_VALUE) {
+                overflow.add(new CartItemDto(productType, (int) quantities[ordinal]));
+                quantities[ordinal] = 0;
+            }
+            quantities[ordinal] += quantity;
+        }
+
+        @Override
+        List<CartItemDto> items() {
+            List<CartItemDto> items = new ArrayList<>(overflow);
+            for (ProductType productType : PRODUCT_TYPES) {
+                if (quantities[productType.ordinal()] > 0) {
+                    items.add(new CartItemDto(productType, (int) quantities[productType.ordinal()]));
+                }
+            }
+            return items;
+        }
+    }
+}
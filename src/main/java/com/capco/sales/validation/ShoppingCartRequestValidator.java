@@ -0,0 +1,186 @@
+package com.capco.sales.validation;
+
+import com.capco.sales.dto.CartItemDto;
+import com.capco.sales.dto.ShoppingCartRequest;
+import com.capco.sales.exception.CartValidationException;
+import com.capco.sales.model.Client;
+import com.capco.sales.model.IndividualClient;
+import com.capco.sales.model.ProductType;
+import com.capco.sales.model.ProfessionalClient;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hand-specialized validation of {@link ShoppingCartRequest}.
+ * <p>
+ * Runs the checks declared by the Bean Validation constraints of the request, its client and its lines in a single
+ * pass over the cart, without reflection or constraint metadata, and allocates nothing unless a constraint is
+ * violated. Errors are keyed by the property path Hibernate Validator reports, e.g. {@code client.clientId} or
+ * {@code items[3].quantity}, with the constraint's message, so the error map is the one
+ * {@link com.capco.sales.exception.GlobalExceptionHandler} builds for {@code @Valid}. The annotations stay on the
+ * records: they document the contract and keep validating the other endpoints; any change to them must be mirrored
+ * here.
+ */
+public final class ShoppingCartRequestValidator {
+
+    private ShoppingCartRequestValidator() {
+    }
+
+    /**
+     * @param request the request to validate
+     * @return the error messages keyed by property path, empty if the request is valid
+     */
+    public static Map<String, String> validate(ShoppingCartRequest request) {
+        Map<String, String> errors = validateClient(null, request.client());
+
+        List<CartItemDto> items = request.items();
+        if (items == null || items.isEmpty()) {
+            errors = validateLineCount(errors, 0);
+        } else {
+            for (int i = 0, size = items.size(); i < size; i++) {
+                CartItemDto item = items.get(i);
+                // @Valid skips null elements
+                if (item != null) {
+                    errors = validateLine(errors, i, item.productType(), item.quantity());
+                }
+            }
+        }
+
+        return errors != null ? errors : Map.of();
+    }
+
+    /**
+     * Checks the client of a request. Like the other checks, adds its errors to those found so far,
+     * so that a request can be validated piecewise, e.g. while it is being read.
+     *
+     * @param errors the errors found so far, or {@code null} if none
+     * @param client the client, or {@code null} if missing
+     * @return the errors found so far, or {@code null} if none
+     */
+    public static Map<String, String> validateClient(Map<String, String> errors, Client client) {
+        if (client == null) {
+            return put(errors, "client", "Client is required");
+        } else if (client instanceof IndividualClient individual) {
+            return validate(errors, individual);
+        } else if (client instanceof ProfessionalClient professional) {
+            return validate(errors, professional);
+        }
+        return errors;
+    }
+
+    /**
+     * Checks a cart line.
+     *
+     * @param errors the errors found so far, or {@code null} if none
+     * @param index the line index
+     * @param productType the line's product type
+     * @param quantity the line's quantity
+     * @return the errors found so far, or {@code null} if none
+     */
+    public static Map<String, String> validateLine(Map<String, String> errors, int index, ProductType productType,
+                                                   Integer quantity) {
+        if (productType == null) {
+            errors = put(errors, "items[" + index + "].productType", "Product type is required");
+        }
+        if (quantity == null) {
+            errors = put(errors, "items[" + index + "].quantity", "Quantity is required");
+        } else if (quantity < 1) {
+            errors = put(errors, "items[" + index + "].quantity", "Quantity must be at least 1");
+        }
+        return errors;
+    }
+
+    /**
+     * Checks that a cart has lines.
+     *
+     * @param errors the errors found so far, or {@code null} if none
+     * @param lines the number of lines, {@code 0} if the lines are missing
+     * @return the errors found so far, or {@code null} if none
+     */
+    public static Map<String, String> validateLineCount(Map<String, String> errors, int lines) {
+        return lines == 0 ? put(errors, "items", "Cart items cannot be empty") : errors;
+    }
+
+    /**
+     * @param request the request to validate
+     * @throws CartValidationException if the request is invalid
+     */
+    public static void requireValid(ShoppingCartRequest request) {
+        Map<String, String> errors = validate(request);
+        if (!errors.isEmpty()) {
+            throw new CartValidationException(errors);
+        }
+    }
+
+    private static Map<String, String> validate(Map<String, String> errors, IndividualClient client) {
+        if (isBlank(client.clientId())) {
+            errors = put(errors, "client.clientId", "Client ID is required");
+        }
+        if (isBlank(client.firstName())) {
+            errors = put(errors, "client.firstName", "First name is required");
+        }
+        if (isBlank(client.lastName())) {
+            errors = put(errors, "client.lastName", "Last name is required");
+        }
+        return errors;
+    }
+
+    private static Map<String, String> validate(Map<String, String> errors, ProfessionalClient client) {
+        if (isBlank(client.clientId())) {
+            errors = put(errors, "client.clientId", "Client ID is required");
+        } else if (client.clientId().length() > ProfessionalClient.CLIENT_ID_MAX_LENGTH) {
+            errors = put(errors, "client.clientId", "Client ID must be at most 255 characters");
+        }
+        if (isBlank(client.companyName())) {
+            errors = put(errors, "client.companyName", "Company name is required");
+        }
+        if (isBlank(client.registrationNumber())) {
+            errors = put(errors, "client.registrationNumber", "Registration number is required");
+        }
+        if (client.annualRevenue() == null) {
+            errors = put(errors, "client.annualRevenue", "Annual revenue is required");
+        } else if (client.annualRevenue().signum() < 0) {
+            errors = put(errors, "client.annualRevenue", "Annual revenue must be positive or zero");
+        }
+        if (client.country() != null && !isCountryCode(client.country())) {
+            errors = put(errors, "client.country", "Country must be an ISO 3166-1 alpha-2 code");
+        }
+        return errors;
+    }
+
+    private static Map<String, String> put(Map<String, String> errors, String field, String message) {
+        if (errors == null) {
+            errors = new LinkedHashMap<>();
+        }
+        errors.put(field, message);
+        return errors;
+    }
+
+    /**
+     * Same as {@code @NotBlank}: {@code null}, or only characters that {@link String#trim()} removes.
+     */
+    private static boolean isBlank(String value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Same as {@code @Pattern(regexp = "^[A-Z]{2}$")}.
+     */
+    private static boolean isCountryCode(String value) {
+        return value.length() == 2 && isUpperCaseLetter(value.charAt(0)) && isUpperCaseLetter(value.charAt(1));
+    }
+
+    private static boolean isUpperCaseLetter(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+}
@@ -0,0 +1,195 @@
+package com.capco.sales.controller;
+
+import com.capco.sales.TestDataFactory;
+import com.capco.sales.config.BinaryWireFormatConfig;
+import com.capco.sales.dto.CartTotalResponse;
+import com.capco.sales.dto.ShoppingCartRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the {@link CartControllerIT} scenarios against the WebFlux stack.
+ */
+@SpringBootTest
+@AutoConfigureWebTestClient
+@ActiveProfiles("reactive")
+class ReactiveCartControllerIT {
+
+    private static final String API_ENDPOINT = "/api/v1/cart/calculate";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    // Helper methods for common expectations
+
+    private WebTestClient.ResponseSpec post(Object body) {
+        return webTestClient.post()
+                            .uri(API_ENDPOINT)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(body)
+                            .exchange();
+    }
+
+    private void expectSuccessResponse(WebTestClient.ResponseSpec response, CartTotalResponse expectedResponse) {
+        response.expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody(CartTotalResponse.class)
+                .isEqualTo(expectedResponse);
+    }
+
+    private WebTestClient.BodyContentSpec expectBadRequestWithValidationFailure(WebTestClient.ResponseSpec response) {
+        return expectBadRequest(response)
+                .jsonPath("$.message").isEqualTo("Validation failed");
+    }
+
+    private WebTestClient.BodyContentSpec expectBadRequest(WebTestClient.ResponseSpec response) {
+        return response.expectStatus().isBadRequest()
+                       .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                       .expectBody()
+                       .jsonPath("$.status").isEqualTo(400);
+    }
+
+    @Test
+    void shouldReturnCartTotal_whenCalculateCartTotal_givenIndividualClientWithMultipleItems() {
+        // given
+        ShoppingCartRequest givenRequest = TestDataFactory.createShoppingCartRequestIndividual();
+        CartTotalResponse expectedResponse = TestDataFactory.createExpectedResponseIndividual();
+
+        // when & then
+        expectSuccessResponse(post(givenRequest), expectedResponse);
+    }
+
+    @Test
+    void shouldReturnCartTotal_whenCalculateCartTotal_givenProfessionalHighRevenueClientWithSingleItem() {
+        // given
+        ShoppingCartRequest givenRequest = TestDataFactory.createShoppingCartRequestProfessionalHighRevenue();
+        CartTotalResponse expectedResponse = TestDataFactory.createExpectedResponseProfessionalHighRevenue();
+
+        // when & then
+        expectSuccessResponse(post(givenRequest), expectedResponse);
+    }
+
+    @Test
+    void shouldReturnCartTotal_whenCalculateCartTotal_givenProfessionalLowRevenueClientWithSingleItem() {
+        // given
+        ShoppingCartRequest givenRequest = TestDataFactory.createShoppingCartRequestProfessionalLowRevenue();
+        CartTotalResponse expectedResponse = TestDataFactory.createExpectedResponseProfessionalLowRevenue();
+
+        // when & then
+        expectSuccessResponse(post(givenRequest), expectedResponse);
+    }
+
+    @Test
+    void shouldReturnSmileCartTotal_whenCalculateCartTotal_givenSmileRequest() throws IOException {
+        // given
+        ObjectMapper smileMapper = BinaryWireFormatConfig.smileObjectMapper(new Jackson2ObjectMapperBuilder());
+        ShoppingCartRequest givenRequest = TestDataFactory.createShoppingCartRequestIndividual();
+        CartTotalResponse expectedResponse = TestDataFactory.createExpectedResponseIndividual();
+
+        // when
+        byte[] actualBody = webTestClient.post()
+                                         .uri(API_ENDPOINT)
+                                         .contentType(BinaryWireFormatConfig.SMILE)
+                                         .accept(BinaryWireFormatConfig.SMILE)
+                                         .bodyValue(smileMapper.writeValueAsBytes(givenRequest))
+                                         .exchange()
+                                         .expectStatus().isOk()
+                                         .expectHeader().contentType(BinaryWireFormatConfig.SMILE)
+                                         .expectBody(byte[].class)
+                                         .returnResult().getResponseBody();
+
+        // then
+        assertThat(smileMapper.readValue(actualBody, CartTotalResponse.class)).isEqualTo(expectedResponse);
+    }
+
+    @Test
+    void shouldReturnBadRequest_whenCalculateCartTotal_givenInvalidFields() {
+        // given - request with multiple validation errors
+        String givenInvalidRequest = TestDataFactory.createInvalidRequestWithAllMissingFields();
+
+        // when & then
+        expectBadRequestWithValidationFailure(post(givenInvalidRequest))
+                .jsonPath("$.errors.client").exists()
+                .jsonPath("$.errors['items[0].productType']").exists()
+                .jsonPath("$.errors['items[0].quantity']").exists();
+    }
+
+    @Test
+    void shouldReturnBadRequest_whenCalculateCartTotal_givenInvalidClientType() {
+        // given
+        String givenInvalidRequest = TestDataFactory.createInvalidRequestWithInvalidClientType();
+
+        // when & then
+        expectBadRequest(post(givenInvalidRequest));
+    }
+
+    @Test
+    void shouldReturnBadRequest_whenCalculateCartTotal_givenNullItems() {
+        // given
+        String givenInvalidRequest = TestDataFactory.createInvalidRequestWithNullItems();
+
+        // when & then
+        expectBadRequestWithValidationFailure(post(givenInvalidRequest))
+                .jsonPath("$.errors.items").exists();
+    }
+
+    @Test
+    void shouldReturnBadRequest_whenCalculateCartTotal_givenEmptyItems() {
+        // given
+        String givenInvalidRequest = TestDataFactory.createInvalidRequestWithEmptyItems();
+
+        // when & then
+        expectBadRequestWithValidationFailure(post(givenInvalidRequest))
+                .jsonPath("$.errors.items").exists();
+    }
+
+    @Test
+    void shouldReturnBadRequest_whenCalculateCartTotal_givenInvalidProfessionalClientFields() {
+        // given - professional client with missing required fields and invalid revenue
+        String givenInvalidRequest = TestDataFactory.createInvalidProfessionalClientRequest();
+
+        // when & then
+        expectBadRequestWithValidationFailure(post(givenInvalidRequest))
+                .jsonPath("$.errors['client.clientId']").exists()
+                .jsonPath("$.errors['client.companyName']").exists()
+                .jsonPath("$.errors['client.registrationNumber']").exists()
+                .jsonPath("$.errors['client.annualRevenue']").exists();
+    }
+
+    @Test
+    void shouldReturnBadRequest_whenCalculateCartTotal_givenInvalidIndividualClientFields() {
+        // given - individual client with empty/blank required fields
+        String givenInvalidRequest = TestDataFactory.createInvalidIndividualClientRequest();
+
+        // when & then
+        expectBadRequestWithValidationFailure(post(givenInvalidRequest))
+                .jsonPath("$.errors['client.clientId']").exists()
+                .jsonPath("$.errors['client.firstName']").exists()
+                .jsonPath("$.errors['client.lastName']").exists();
+    }
+
+    @Test
+    void shouldReturnBadRequest_whenCalculateCartTotal_givenUnknownAggregation() {
+        // given
+        ShoppingCartRequest givenRequest = TestDataFactory.createShoppingCartRequestIndividual();
+
+        // when & then
+        expectBadRequest(webTestClient.post()
+                                      .uri(uri -> uri.path(API_ENDPOINT).queryParam("aggregation", "BY_COLOUR").build())
+                                      .contentType(MediaType.APPLICATION_JSON)
+                                      .bodyValue(givenRequest)
+                                      .exchange())
+                .jsonPath("$.errors.aggregation").exists();
+    }
+}
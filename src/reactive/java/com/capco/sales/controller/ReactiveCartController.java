@@ -0,0 +1,48 @@
+package com.capco.sales.controller;
+
+import com.capco.sales.dto.CartTotalResponse;
+import com.capco.sales.dto.CartView;
+import com.capco.sales.dto.LineAggregation;
+import com.capco.sales.dto.ShoppingCartRequest;
+import com.capco.sales.service.CartService;
+import com.capco.sales.validation.ShoppingCartRequestValidator;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * REST controller for shopping cart operations, served by WebFlux on Netty.
+ * Active with the {@code reactive} Spring profile; exposes the same contract as {@link CartController}.
+ * Pricing is pure CPU work without blocking I/O, so it runs directly on the event loop.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Tag(name = "Shopping Cart", description = "Shopping cart calculation APIs")
+public class ReactiveCartController {
+
+    private final CartService cartService;
+
+    @Operation(summary = "Calculate shopping cart total")
+    @PostMapping("/cart/calculate")
+    public Mono<CartTotalResponse> calculateCartTotal(
+            @RequestBody Mono<ShoppingCartRequest> request,
+            @Parameter(description = "Folds lines of the same product type before pricing; defaults to the configured mode")
+            @RequestParam(required = false) LineAggregation aggregation,
+            @Parameter(description = "How much of the priced cart to return; TOTAL and SUMMARY fold lines per product type")
+            @RequestParam(defaultValue = "FULL") CartView view) {
+        return request.map(cart -> {
+            ShoppingCartRequestValidator.requireValid(cart);
+            return cartService.calculateTotal(cart, aggregation, view);
+        });
+    }
+}
@@ -0,0 +1,67 @@
+package com.capco.sales.exception;
+
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Exception handler for the exceptions specific to the reactive stack, mapped to the same error responses as
+ * their servlet counterparts in {@link GlobalExceptionHandler}.
+ * Ordered first so that these exceptions do not reach the generic handler of {@link GlobalExceptionHandler}.
+ */
+@RestControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler {
+
+    /**
+     * Handles validation exceptions from @Valid annotations on the reactive stack.
+     *
+     * @param ex the validation exception
+     * @return error response with validation details
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleWebExchangeBindException(WebExchangeBindException ex) {
+        return GlobalExceptionHandler.validationFailed(ex.getBindingResult());
+    }
+
+    /**
+     * Handles unreadable request bodies and parameters on the reactive stack
+     * (malformed JSON, invalid enum values, etc.).
+     *
+     * @param ex the server web input exception
+     * @return error response with parse error details
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleServerWebInput(ServerWebInputException ex) {
+        ErrorResponse errorResponse;
+        if (ex.getCause() instanceof TypeMismatchException mismatch && ex.getMethodParameter() != null) {
+            errorResponse = new ErrorResponse(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Invalid request parameter",
+                    Map.of(String.valueOf(ex.getMethodParameter().getParameterName()),
+                            "Invalid value: " + mismatch.getValue()),
+                    LocalDateTime.now()
+            );
+        } else {
+            errorResponse = new ErrorResponse(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Invalid request format or value",
+                    null,
+                    LocalDateTime.now()
+            );
+        }
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+}
@@ -1,12 +1,23 @@
 package com.capco.sales;
 
+import com.capco.sales.catalog.NegotiatedPrices;
+import com.capco.sales.catalog.PriceCatalog;
+import com.capco.sales.config.NegotiatedPriceProperties;
+import com.capco.sales.config.PriceCatalogProperties;
+import com.capco.sales.config.PricingRulesProperties;
+import com.capco.sales.config.PromotionProperties;
 import com.capco.sales.dto.CartItemDto;
+import com.capco.sales.dto.CartSessionRequest;
 import com.capco.sales.dto.CartTotalResponse;
 import com.capco.sales.dto.ItemDetail;
 import com.capco.sales.dto.ShoppingCartRequest;
 import com.capco.sales.model.IndividualClient;
 import com.capco.sales.model.ProfessionalClient;
 import com.capco.sales.model.ProductType;
+import com.capco.sales.pricing.ClientTierCache;
+import com.capco.sales.pricing.PricingStrategyResolver;
+import com.capco.sales.pricing.PromotionEngine;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.experimental.UtilityClass;
 
 import java.math.BigDecimal;
@@ -69,6 +80,43 @@ public final class TestDataFactory {
         );
     }
 
+    // Price catalog factory methods
+    public static PriceCatalog createBuiltInPriceCatalog() {
+        return createPriceCatalog(new PriceCatalogProperties());
+    }
+
+    public static PriceCatalog createPriceCatalog(PriceCatalogProperties properties) {
+        return new PriceCatalog(properties, new ObjectMapper(), createDefaultPricingStrategyResolver(), event -> {
+        });
+    }
+
+    public static NegotiatedPrices createNegotiatedPrices() {
+        return createNegotiatedPrices(new NegotiatedPriceProperties());
+    }
+
+    public static NegotiatedPrices createNegotiatedPrices(NegotiatedPriceProperties properties) {
+        return new NegotiatedPrices(properties);
+    }
+
+    public static PromotionEngine createPromotionEngine() {
+        return new PromotionEngine(new PromotionProperties());
+    }
+
+    // Pricing strategy resolver factory methods
+    public static PricingStrategyResolver createDefaultPricingStrategyResolver() {
+        return createPricingStrategyResolver(new PricingRulesProperties());
+    }
+
+    public static PricingStrategyResolver createPricingStrategyResolver(PricingRulesProperties properties) {
+        return new PricingStrategyResolver(properties, new ClientTierCache(properties));
+    }
+
+    // Cart session request factory methods
+    public static CartSessionRequest createCartSessionRequestIndividual() {
+        ShoppingCartRequest cart = createShoppingCartRequestIndividual();
+        return new CartSessionRequest(cart.client(), cart.items());
+    }
+
     // Shopping cart request factory methods
     public static ShoppingCartRequest createShoppingCartRequestIndividual() {
         IndividualClient client = createIndividualClient();
@@ -95,6 +143,18 @@ public final class TestDataFactory {
         return new ShoppingCartRequest(client, items);
     }
 
+    public static ShoppingCartRequest createShoppingCartRequestWithDuplicateLines() {
+        IndividualClient client = createIndividualClient();
+        List<CartItemDto> items = List.of(
+                new CartItemDto(ProductType.LAPTOP, 1),
+                new CartItemDto(ProductType.HIGH_END_PHONE, 1),
+                new CartItemDto(ProductType.LAPTOP, 2),
+                new CartItemDto(ProductType.MID_RANGE_PHONE, 1),
+                new CartItemDto(ProductType.HIGH_END_PHONE, 1)
+        );
+        return new ShoppingCartRequest(client, items);
+    }
+
     // Expected success responses factory methods
     public static CartTotalResponse createExpectedResponseIndividual() {
         BigDecimal expectedTotal = new BigDecimal("4200"); // (1500 * 2) + (1200 * 1)
@@ -217,4 +277,23 @@ public final class TestDataFactory {
                 }
                 """;
     }
+
+    // Batch request NDJSON strings
+    public static String createBatchRequestWithValidAndInvalidCarts() {
+        return """
+                {"correlationId":"order-1","client":{"type":"INDIVIDUAL","clientId":"IND001","firstName":"John","lastName":"Doe"},"items":[{"productType":"HIGH_END_PHONE","quantity":2},{"productType":"LAPTOP","quantity":1}]}
+                {"correlationId":"order-2","client":{"type":"INDIVIDUAL","clientId":"","firstName":"John","lastName":"Doe"},"items":[{"productType":"LAPTOP","quantity":0}]}
+                {"correlationId":"order-3","client":{"type":"INDIVIDUAL","clientId":"IND001","firstName":"John","lastName":"Doe"},"items":[{"productType":"TABLET","quantity":1}]}
+                {"client":{"type":"PROFESSIONAL","clientId":"PRO002","companyName":"Small Business Ltd","registrationNumber":"REG456","annualRevenue":5000000},"items":[{"productType":"LAPTOP","quantity":3}]}
+                """;
+    }
+
+    public static String createBatchRequestAsJsonArray() {
+        return """
+                [
+                  {"correlationId":"order-1","client":{"type":"INDIVIDUAL","clientId":"IND001","firstName":"John","lastName":"Doe"},"items":[{"productType":"LAPTOP","quantity":1}]},
+                  {"correlationId":"order-2","client":{"type":"PROFESSIONAL","clientId":"PRO001","companyName":"Tech Corp","registrationNumber":"REG123","annualRevenue":15000000},"items":[{"productType":"MID_RANGE_PHONE","quantity":10}]}
+                ]
+                """;
+    }
 }
@@ -0,0 +1,77 @@
+package com.capco.sales.catalog;
+
+import com.capco.sales.model.ProductType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NegotiatedPriceIndexUnitTest {
+
+    private static BigDecimal[] prices(String highEndPhone, String midRangePhone, String laptop) {
+        BigDecimal[] prices = new BigDecimal[ProductType.values().length];
+        prices[ProductType.HIGH_END_PHONE.ordinal()] = highEndPhone != null ? new BigDecimal(highEndPhone) : null;
+        prices[ProductType.MID_RANGE_PHONE.ordinal()] = midRangePhone != null ? new BigDecimal(midRangePhone) : null;
+        prices[ProductType.LAPTOP.ordinal()] = laptop != null ? new BigDecimal(laptop) : null;
+        return prices;
+    }
+
+    @Test
+    void shouldFindEveryClient_whenFind_givenManyClients() {
+        // given
+        Map<String, BigDecimal[]> givenPrices = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            givenPrices.put("PRO" + i, prices(null, null, String.valueOf(i)));
+        }
+        NegotiatedPriceIndex givenIndex = NegotiatedPriceIndex.of(givenPrices);
+
+        // when & then
+        for (int i = 0; i < 10_000; i++) {
+            int client = givenIndex.find("PRO" + i);
+            assertThat(givenIndex.unitCents(client, ProductType.LAPTOP)).isEqualTo(i * 100L);
+            assertThat(givenIndex.unitCents(client, ProductType.MID_RANGE_PHONE))
+                    .isEqualTo(NegotiatedPriceIndex.NO_PRICE);
+        }
+        assertThat(givenIndex.find("PRO10000")).isEqualTo(-1);
+        assertThat(givenIndex.size()).isEqualTo(10_000);
+    }
+
+    @Test
+    void shouldTellClientsApart_whenFind_givenCollidingHashCodes() {
+        // given
+        NegotiatedPriceIndex givenIndex = NegotiatedPriceIndex.of(Map.of(
+                "Aa", prices("900", null, null),
+                "BB", prices("950", null, null)));
+
+        // when & then
+        assertThat(givenIndex.unitCents(givenIndex.find("Aa"), ProductType.HIGH_END_PHONE)).isEqualTo(90_000);
+        assertThat(givenIndex.unitCents(givenIndex.find("BB"), ProductType.HIGH_END_PHONE)).isEqualTo(95_000);
+        assertThat(givenIndex.find("C#")).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldKeepPriceScale_whenScale_givenDecimalPrices() {
+        // given
+        NegotiatedPriceIndex givenIndex = NegotiatedPriceIndex.of(Map.of("PRO001", prices("1000", "599.9", "849.99")));
+        int givenClient = givenIndex.find("PRO001");
+
+        // when & then
+        assertThat(givenIndex.scale(givenClient, ProductType.HIGH_END_PHONE)).isZero();
+        assertThat(givenIndex.scale(givenClient, ProductType.MID_RANGE_PHONE)).isEqualTo(1);
+        assertThat(givenIndex.scale(givenClient, ProductType.LAPTOP)).isEqualTo(2);
+        assertThat(givenIndex.unitCents(givenClient, ProductType.MID_RANGE_PHONE)).isEqualTo(59_990);
+    }
+
+    @Test
+    void shouldFail_whenOf_givenSubCentOrNegativePrice() {
+        // given & when & then
+        assertThatThrownBy(() -> NegotiatedPriceIndex.of(Map.of("PRO001", prices("999.999", null, null))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> NegotiatedPriceIndex.of(Map.of("PRO001", prices("-1", null, null))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
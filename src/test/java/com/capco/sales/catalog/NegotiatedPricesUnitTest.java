@@ -0,0 +1,69 @@
+package com.capco.sales.catalog;
+
+import com.capco.sales.TestDataFactory;
+import com.capco.sales.config.NegotiatedPriceProperties;
+import com.capco.sales.model.ProductType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NegotiatedPricesUnitTest {
+
+    private static final String PRICES = """
+            PRO001,LAPTOP,849.99
+            """;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void shouldPublishNewIndex_whenReloadIfChanged_givenModifiedFile() throws IOException {
+        // given
+        Path givenFile = Files.writeString(tempDir.resolve("negotiated-prices.csv"), PRICES);
+        NegotiatedPrices givenPrices = TestDataFactory.createNegotiatedPrices(
+                new NegotiatedPriceProperties().setPath(givenFile));
+        Files.writeString(givenFile, PRICES + "PRO002,LAPTOP,800\n");
+        Files.setLastModifiedTime(givenFile, FileTime.from(Instant.now().plusSeconds(10)));
+
+        // when
+        boolean actual = givenPrices.reloadIfChanged();
+
+        // then
+        NegotiatedPriceIndex actualIndex = givenPrices.index();
+        assertThat(actual).isTrue();
+        assertThat(actualIndex.unitCents(actualIndex.find("PRO002"), ProductType.LAPTOP)).isEqualTo(80_000);
+    }
+
+    @Test
+    void shouldKeepCurrentIndex_whenReloadIfChanged_givenInvalidFile() throws IOException {
+        // given
+        Path givenFile = Files.writeString(tempDir.resolve("negotiated-prices.csv"), PRICES);
+        NegotiatedPrices givenPrices = TestDataFactory.createNegotiatedPrices(
+                new NegotiatedPriceProperties().setPath(givenFile));
+        NegotiatedPriceIndex expected = givenPrices.index();
+        List<String> givenInvalidFiles = List.of(
+                "PRO001,TABLET,100\n",
+                "PRO001,LAPTOP,849.999\n",
+                "PRO001,LAPTOP\n");
+
+        for (int i = 0; i < givenInvalidFiles.size(); i++) {
+            Files.writeString(givenFile, givenInvalidFiles.get(i));
+            Files.setLastModifiedTime(givenFile, FileTime.from(Instant.now().plusSeconds(10L * (i + 1))));
+
+            // when
+            boolean actual = givenPrices.reloadIfChanged();
+
+            // then
+            assertThat(actual).as(givenInvalidFiles.get(i)).isFalse();
+            assertThat(givenPrices.index()).isSameAs(expected);
+        }
+    }
+}
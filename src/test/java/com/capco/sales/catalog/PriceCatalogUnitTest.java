@@ -0,0 +1,141 @@
+package com.capco.sales.catalog;
+
+import com.capco.sales.TestDataFactory;
+import com.capco.sales.config.PriceCatalogProperties;
+import com.capco.sales.model.ProductType;
+import com.capco.sales.pricing.HighRevenueProfessionalPricingStrategy;
+import com.capco.sales.pricing.IndividualPricingStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PriceCatalogUnitTest {
+
+    private static final String CATALOG = """
+            {
+              "tiers": {
+                "INDIVIDUAL": {"HIGH_END_PHONE": 1400, "MID_RANGE_PHONE": 750.50, "LAPTOP": 1100}
+              }
+            }
+            """;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void shouldUseBuiltInPrices_whenPriceTable_givenNoCatalogFile() {
+        // given
+        PriceCatalog givenCatalog = TestDataFactory.createBuiltInPriceCatalog();
+
+        // when
+        BigDecimal actual = givenCatalog.priceTable(IndividualPricingStrategy.INSTANCE).unitPrice(ProductType.LAPTOP);
+
+        // then
+        assertThat(actual).isEqualTo(new BigDecimal("1200"));
+        assertThat(givenCatalog.snapshot().version()).isZero();
+    }
+
+    @Test
+    void shouldOverrideListedTiersOnly_whenPriceTable_givenCatalogFile() throws IOException {
+        // given
+        PriceCatalog givenCatalog = TestDataFactory.createPriceCatalog(properties(write(CATALOG)));
+
+        // when & then
+        assertThat(givenCatalog.priceTable(IndividualPricingStrategy.INSTANCE).unitPrice(ProductType.MID_RANGE_PHONE))
+                .isEqualTo(new BigDecimal("750.50"));
+        assertThat(givenCatalog.priceTable(HighRevenueProfessionalPricingStrategy.INSTANCE)
+                               .unitPrice(ProductType.LAPTOP))
+                .isEqualTo(new BigDecimal("900"));
+    }
+
+    @Test
+    void shouldPublishNewSnapshot_whenReloadIfChanged_givenModifiedFile() throws IOException {
+        // given
+        Path givenFile = write(CATALOG);
+        PriceCatalog givenCatalog = TestDataFactory.createPriceCatalog(properties(givenFile));
+        PriceCatalogSnapshot givenSnapshot = givenCatalog.snapshot();
+        Files.writeString(givenFile, CATALOG.replace("1100", "999"));
+        Files.setLastModifiedTime(givenFile, FileTime.from(Instant.now().plusSeconds(10)));
+
+        // when
+        boolean actual = givenCatalog.reloadIfChanged();
+
+        // then
+        assertThat(actual).isTrue();
+        assertThat(givenCatalog.snapshot().version()).isEqualTo(givenSnapshot.version() + 1);
+        assertThat(givenCatalog.priceTable(IndividualPricingStrategy.INSTANCE).unitPrice(ProductType.LAPTOP))
+                .isEqualTo(new BigDecimal("999"));
+        assertThat(givenSnapshot.priceTable(IndividualPricingStrategy.INSTANCE).unitPrice(ProductType.LAPTOP))
+                .isEqualTo(new BigDecimal("1100"));
+    }
+
+    @Test
+    void shouldKeepCurrentSnapshot_whenReloadIfChanged_givenInvalidFile() throws IOException {
+        // given
+        Path givenFile = write(CATALOG);
+        PriceCatalog givenCatalog = TestDataFactory.createPriceCatalog(properties(givenFile));
+        PriceCatalogSnapshot expected = givenCatalog.snapshot();
+        Files.writeString(givenFile, CATALOG.replace("1100", "-1"));
+        Files.setLastModifiedTime(givenFile, FileTime.from(Instant.now().plusSeconds(10)));
+
+        // when
+        boolean actual = givenCatalog.reloadIfChanged();
+
+        // then
+        assertThat(actual).isFalse();
+        assertThat(givenCatalog.snapshot()).isSameAs(expected);
+    }
+
+    @Test
+    void shouldKeepCurrentSnapshot_whenReloadIfChanged_givenUnknownTierOrNullPrices() throws IOException {
+        // given
+        Path givenFile = write(CATALOG);
+        PriceCatalog givenCatalog = TestDataFactory.createPriceCatalog(properties(givenFile));
+        PriceCatalogSnapshot expected = givenCatalog.snapshot();
+        List<String> givenInvalidCatalogs = List.of(
+                CATALOG.replace("INDIVIDUAL", "INDIVIDUALS"),
+                CATALOG.replace("{\"HIGH_END_PHONE\": 1400, \"MID_RANGE_PHONE\": 750.50, \"LAPTOP\": 1100}", "null"),
+                CATALOG.replace("1100", "null"),
+                "null");
+
+        for (int i = 0; i < givenInvalidCatalogs.size(); i++) {
+            Files.writeString(givenFile, givenInvalidCatalogs.get(i));
+            Files.setLastModifiedTime(givenFile, FileTime.from(Instant.now().plusSeconds(10L * (i + 1))));
+
+            // when
+            boolean actual = givenCatalog.reloadIfChanged();
+
+            // then
+            assertThat(actual).as(givenInvalidCatalogs.get(i)).isFalse();
+            assertThat(givenCatalog.snapshot()).isSameAs(expected);
+        }
+    }
+
+    @Test
+    void shouldFailFast_whenCreated_givenMissingCatalogFile() {
+        // given
+        PriceCatalogProperties givenProperties = properties(tempDir.resolve("missing.json"));
+
+        // when & then
+        assertThatThrownBy(() -> TestDataFactory.createPriceCatalog(givenProperties))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(tempDir.resolve("price-catalog.json"), content);
+    }
+
+    private static PriceCatalogProperties properties(Path path) {
+        return new PriceCatalogProperties().setPath(path);
+    }
+}
@@ -0,0 +1,77 @@
+package com.capco.sales.catalog;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReloadingFileUnitTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private final List<Integer> reloaded = new ArrayList<>();
+
+    private ReloadingFile<Integer> reloadingFile(Path path) {
+        return new ReloadingFile<>("test value", path, Duration.ofSeconds(5), 0,
+                (file, current) -> Integer.parseInt(Files.readString(file).strip()),
+                value -> "value " + value, reloaded::add);
+    }
+
+    private static void touch(Path file, String content, int secondsAhead) throws IOException {
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(secondsAhead)));
+    }
+
+    @Test
+    void shouldPublishOnlyChangedAndValidFiles_whenReloadIfChanged_givenSuccessiveWrites() throws IOException {
+        // given
+        Path givenFile = Files.writeString(tempDir.resolve("value.txt"), "1");
+        ReloadingFile<Integer> givenReloadingFile = reloadingFile(givenFile);
+
+        // when
+        boolean actualUnchanged = givenReloadingFile.reloadIfChanged();
+        touch(givenFile, "not a number", 10);
+        boolean actualInvalid = givenReloadingFile.reloadIfChanged();
+        touch(givenFile, "2", 20);
+        boolean actualChanged = givenReloadingFile.reloadIfChanged();
+
+        // then
+        assertThat(actualUnchanged).isFalse();
+        assertThat(actualInvalid).isFalse();
+        assertThat(actualChanged).isTrue();
+        assertThat(givenReloadingFile.value()).isEqualTo(2);
+        assertThat(reloaded).containsExactly(1, 2);
+    }
+
+    @Test
+    void shouldFailFast_whenCreated_givenInvalidFile() throws IOException {
+        // given
+        Path givenFile = Files.writeString(tempDir.resolve("value.txt"), "not a number");
+
+        // when & then
+        assertThatThrownBy(() -> reloadingFile(givenFile))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Cannot load test value");
+    }
+
+    @Test
+    void shouldKeepInitialValue_whenCreated_givenNoPath() {
+        // when
+        ReloadingFile<Integer> actual = reloadingFile(null);
+
+        // then
+        assertThat(actual.value()).isZero();
+        assertThat(reloaded).isEmpty();
+    }
+}
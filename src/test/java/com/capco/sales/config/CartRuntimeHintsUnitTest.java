@@ -0,0 +1,61 @@
+package com.capco.sales.config;
+
+import com.capco.sales.dto.BatchCartRequest;
+import com.capco.sales.model.ContractLevel;
+import com.capco.sales.model.IndividualClient;
+import com.capco.sales.model.ProfessionalClient;
+import com.capco.sales.pricing.HighRevenueProfessionalPricingStrategy;
+import com.capco.sales.pricing.IndividualPricingStrategy;
+import com.capco.sales.pricing.LowRevenueProfessionalPricingStrategy;
+import com.capco.sales.pricing.PricingStrategy;
+import com.capco.sales.pricing.TieredPricingStrategy;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CartRuntimeHintsUnitTest {
+
+    private static RuntimeHints registerHints() {
+        RuntimeHints hints = new RuntimeHints();
+        new CartRuntimeHints().registerHints(hints, CartRuntimeHintsUnitTest.class.getClassLoader());
+        return hints;
+    }
+
+    @Test
+    void shouldRegisterClientSubtypesForBinding_whenRegisterHints_givenPolymorphicClient() throws Exception {
+        // given & when
+        RuntimeHints actual = registerHints();
+
+        // then
+        for (Class<?> type : new Class<?>[]{IndividualClient.class, ProfessionalClient.class}) {
+            assertThat(RuntimeHintsPredicates.reflection().onType(type)
+                                             .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                    .accepts(actual);
+        }
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(ProfessionalClient.class.getMethod("annualRevenue")))
+                .accepts(actual);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ContractLevel.class)).accepts(actual);
+        assertThat(RuntimeHintsPredicates.reflection().onType(BatchCartRequest.class)).accepts(actual);
+    }
+
+    @Test
+    void shouldRegisterEveryStrategy_whenRegisterHints_givenSealedPricingStrategy() {
+        // given & when
+        RuntimeHints actual = registerHints();
+
+        // then
+        assertThat(PricingStrategy.class.getPermittedSubclasses()).containsExactlyInAnyOrder(
+                IndividualPricingStrategy.class, HighRevenueProfessionalPricingStrategy.class,
+                LowRevenueProfessionalPricingStrategy.class, TieredPricingStrategy.class);
+        for (Class<?> type : PricingStrategy.class.getPermittedSubclasses()) {
+            assertThat(RuntimeHintsPredicates.reflection().onType(type)
+                                             .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                                                     MemberCategory.INVOKE_PUBLIC_METHODS,
+                                                     MemberCategory.DECLARED_FIELDS))
+                    .accepts(actual);
+        }
+    }
+}
@@ -1,17 +1,25 @@
 package com.capco.sales.controller;
 
 import com.capco.sales.TestDataFactory;
+import com.capco.sales.config.BinaryWireFormatConfig;
 import com.capco.sales.dto.CartTotalResponse;
 import com.capco.sales.dto.ShoppingCartRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -20,6 +28,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 class CartControllerIT {
 
     private static final String API_ENDPOINT = "/api/v1/cart/calculate";
+    private static final String BATCH_API_ENDPOINT = "/api/v1/cart/calculate/batch";
+    private static final String STREAM_API_ENDPOINT = "/api/v1/cart/calculate/stream";
 
     @Autowired
     private MockMvc mockMvc;
@@ -27,6 +37,12 @@ class CartControllerIT {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    @Autowired
+    private CartTotalResponseHttpMessageConverter responseConverter;
+
     // Helper methods for common expectations
 
     private ResultActions expectSuccessResponse(ResultActions resultActions, CartTotalResponse expectedResponse) throws Exception {
@@ -51,6 +67,25 @@ class CartControllerIT {
                 .andExpect(jsonPath("$.status").value(400));
     }
 
+    @Test
+    void shouldWriteSameJsonAsObjectMapper_whenCalculateCartTotal_givenRepeatedRequest() throws Exception {
+        // given
+        ShoppingCartRequest givenRequest = TestDataFactory.createShoppingCartRequestIndividual();
+        String expectedBody = objectMapper.writeValueAsString(TestDataFactory.createExpectedResponseIndividual());
+        long givenHits = responseConverter.stats().hitCount();
+
+        for (int i = 0; i < 2; i++) {
+            // when & then
+            mockMvc.perform(post(API_ENDPOINT)
+                           .contentType(MediaType.APPLICATION_JSON)
+                           .content(objectMapper.writeValueAsString(givenRequest)))
+                   .andExpect(status().isOk())
+                   .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                   .andExpect(content().string(expectedBody));
+        }
+        assertThat(responseConverter.stats().hitCount()).isGreaterThan(givenHits);
+    }
+
     @Test
     void shouldReturnCartTotal_whenCalculateCartTotal_givenIndividualClientWithMultipleItems() throws Exception {
         // given
@@ -96,6 +131,82 @@ class CartControllerIT {
         );
     }
 
+    @Test
+    void shouldReturnSmileCartTotal_whenCalculateCartTotal_givenSmileRequest() throws Exception {
+        // given
+        ObjectMapper smileMapper = smileConverter.getObjectMapper();
+        ShoppingCartRequest givenRequest = TestDataFactory.createShoppingCartRequestProfessionalHighRevenue();
+        byte[] givenBody = smileMapper.writeValueAsBytes(givenRequest);
+        CartTotalResponse expectedResponse = TestDataFactory.createExpectedResponseProfessionalHighRevenue();
+
+        // when
+        byte[] actualBody = mockMvc.perform(post(API_ENDPOINT)
+                                           .contentType(BinaryWireFormatConfig.SMILE)
+                                           .accept(BinaryWireFormatConfig.SMILE)
+                                           .content(givenBody))
+                                   .andExpect(status().isOk())
+                                   .andExpect(content().contentType(BinaryWireFormatConfig.SMILE))
+                                   .andReturn().getResponse().getContentAsByteArray();
+
+        // then
+        assertThat(givenBody).hasSizeLessThan(objectMapper.writeValueAsBytes(givenRequest).length);
+        assertThat(smileMapper.readTree(givenBody).at("/client/type").asText()).isEqualTo("1");
+        assertThat(smileMapper.readTree(actualBody).at("/itemDetails/0/productType").isInt()).isTrue();
+        assertThat(smileMapper.readValue(actualBody, CartTotalResponse.class)).isEqualTo(expectedResponse);
+    }
+
+    @Test
+    void shouldReturnOneItemPerProduct_whenCalculateCartTotal_givenAggregationParameter() throws Exception {
+        // given
+        ShoppingCartRequest givenRequest = TestDataFactory.createShoppingCartRequestWithDuplicateLines();
+
+        // when & then
+        mockMvc.perform(post(API_ENDPOINT)
+                        .param("aggregation", "FIRST_OCCURRENCE")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(givenRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(7400))
+                .andExpect(jsonPath("$.itemDetails.length()").value(3))
+                .andExpect(jsonPath("$.itemDetails[0].productType").value("LAPTOP"))
+                .andExpect(jsonPath("$.itemDetails[0].quantity").value(3));
+    }
+
+    @Test
+    void shouldReturnBadRequest_whenCalculateCartTotal_givenUnknownAggregation() throws Exception {
+        // given
+        ShoppingCartRequest givenRequest = TestDataFactory.createShoppingCartRequestIndividual();
+
+        // when & then
+        expectBadRequest(
+                mockMvc.perform(post(API_ENDPOINT)
+                        .param("aggregation", "BY_COLOUR")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(givenRequest)))
+        )
+                .andExpect(jsonPath("$.errors.aggregation").exists());
+    }
+
+    @Test
+    void shouldExposePricingMetrics_whenCalculateCartTotal_givenValidRequest() throws Exception {
+        // given
+        ShoppingCartRequest givenRequest = TestDataFactory.createShoppingCartRequestProfessionalLowRevenue();
+        mockMvc.perform(post(API_ENDPOINT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(givenRequest)))
+                .andExpect(status().isOk());
+
+        // when & then
+        mockMvc.perform(get("/actuator/metrics/cart.pricing")
+                        .param("tag", "client.type:PROFESSIONAL", "pricing.tier:PROFESSIONAL_LOW_REVENUE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[?(@.statistic == 'COUNT')].value").isNotEmpty());
+        mockMvc.perform(get("/actuator/metrics/cart.json.parse"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/metrics/cart.lines.priced"))
+                .andExpect(status().isOk());
+    }
+
     @Test
     void shouldReturnBadRequest_whenCalculateCartTotal_givenInvalidFields() throws Exception {
         // given - request with multiple validation errors
@@ -112,6 +223,80 @@ class CartControllerIT {
                 .andExpect(jsonPath("$.errors['items[0].quantity']").exists());
     }
 
+    @Test
+    void shouldReturnProductTypeSummary_whenCalculateCartTotal_givenSummaryView() throws Exception {
+        // given
+        ShoppingCartRequest givenRequest = TestDataFactory.createShoppingCartRequestWithDuplicateLines();
+
+        // when & then
+        mockMvc.perform(post(API_ENDPOINT)
+                       .param("view", "SUMMARY")
+                       .contentType(MediaType.APPLICATION_JSON)
+                       .content(objectMapper.writeValueAsString(givenRequest)))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.total").value(7400))
+               .andExpect(jsonPath("$.itemDetails.length()").value(3))
+               .andExpect(jsonPath("$.itemDetails[2].productType").value("LAPTOP"))
+               .andExpect(jsonPath("$.itemDetails[2].quantity").value(3));
+    }
+
+    @Test
+    void shouldReturnTotalOnly_whenCalculateCartTotal_givenTotalView() throws Exception {
+        // given
+        ShoppingCartRequest givenRequest = TestDataFactory.createShoppingCartRequestIndividual();
+
+        // when & then
+        mockMvc.perform(post(API_ENDPOINT)
+                       .param("view", "TOTAL")
+                       .contentType(MediaType.APPLICATION_JSON)
+                       .content(objectMapper.writeValueAsString(givenRequest)))
+               .andExpect(status().isOk())
+               .andExpect(content().json("{\"total\": 4200, \"itemDetails\": []}", true));
+    }
+
+    @Test
+    void shouldReturnTotalOnly_whenCalculateCartTotalStreaming_givenTotalsOnly() throws Exception {
+        // given
+        ShoppingCartRequest givenRequest = TestDataFactory.createShoppingCartRequestIndividual();
+        CartTotalResponse expectedResponse = TestDataFactory.createExpectedResponseIndividual();
+
+        // when & then
+        mockMvc.perform(post(STREAM_API_ENDPOINT)
+                       .param("totalsOnly", "true")
+                       .contentType(MediaType.APPLICATION_JSON)
+                       .content(objectMapper.writeValueAsString(givenRequest)))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.total").value(expectedResponse.total().intValue()))
+               .andExpect(jsonPath("$.itemDetails").isEmpty());
+    }
+
+    @Test
+    void shouldReturnBadRequest_whenCalculateCartTotalStreaming_givenInvalidFields() throws Exception {
+        // given
+        String givenInvalidRequest = TestDataFactory.createInvalidRequestWithAllMissingFields();
+
+        // when & then
+        expectBadRequestWithValidationFailure(
+                mockMvc.perform(post(STREAM_API_ENDPOINT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(givenInvalidRequest))
+        )
+                .andExpect(jsonPath("$.errors.client").exists())
+                .andExpect(jsonPath("$.errors['items[0].productType']").exists())
+                .andExpect(jsonPath("$.errors['items[0].quantity']").exists());
+    }
+
+    @Test
+    void shouldReturnBadRequest_whenCalculateCartTotalStreaming_givenMalformedJson() throws Exception {
+        // when & then
+        expectBadRequest(
+                mockMvc.perform(post(STREAM_API_ENDPOINT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\": [{\"productType\": \"LAPTOP\", "))
+        )
+                .andExpect(jsonPath("$.message").value("Invalid request format or value"));
+    }
+
     @Test
     void shouldReturnBadRequest_whenCalculateCartTotal_givenInvalidClientType() throws Exception {
         // given
@@ -185,4 +370,68 @@ class CartControllerIT {
                 .andExpect(jsonPath("$.errors['client.firstName']").exists())
                 .andExpect(jsonPath("$.errors['client.lastName']").exists());
     }
+
+    @Test
+    void shouldReturnPerCartResults_whenCalculateCartTotals_givenNdjsonBatchWithInvalidCarts() throws Exception {
+        // given
+        String givenBatch = TestDataFactory.createBatchRequestWithValidAndInvalidCarts();
+
+        // when
+        String actual = mockMvc.perform(post(BATCH_API_ENDPOINT)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(givenBatch))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // then
+        List<JsonNode> results = actual.lines().map(this::readTree).toList();
+        assertThat(results).hasSize(4);
+
+        assertThat(results.get(0).path("correlationId").asText()).isEqualTo("order-1");
+        assertThat(results.get(0).path("result").path("total").decimalValue()).isEqualByComparingTo("4200");
+        assertThat(results.get(0).has("error")).isFalse();
+
+        assertThat(results.get(1).path("correlationId").asText()).isEqualTo("order-2");
+        assertThat(results.get(1).path("error").path("message").asText()).isEqualTo("Validation failed");
+        assertThat(results.get(1).path("error").path("errors").has("client.clientId")).isTrue();
+        assertThat(results.get(1).path("error").path("errors").has("items[0].quantity")).isTrue();
+
+        assertThat(results.get(2).path("sequence").asLong()).isEqualTo(2);
+        assertThat(results.get(2).path("error").path("status").asInt()).isEqualTo(400);
+
+        assertThat(results.get(3).path("correlationId").asText()).isEqualTo("3");
+        assertThat(results.get(3).path("result").path("total").decimalValue()).isEqualByComparingTo("3000");
+    }
+
+    @Test
+    void shouldReturnPerCartResults_whenCalculateCartTotals_givenJsonArrayBatch() throws Exception {
+        // given
+        String givenBatch = TestDataFactory.createBatchRequestAsJsonArray();
+
+        // when
+        String actual = mockMvc.perform(post(BATCH_API_ENDPOINT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(givenBatch))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // then
+        List<JsonNode> results = actual.lines().map(this::readTree).toList();
+        assertThat(results)
+                .extracting(result -> result.path("result").path("total").decimalValue().toPlainString())
+                .containsExactly("1200", "5500");
+    }
+
+    private JsonNode readTree(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
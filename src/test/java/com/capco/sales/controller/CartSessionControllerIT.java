@@ -0,0 +1,130 @@
+package com.capco.sales.controller;
+
+import com.capco.sales.TestDataFactory;
+import com.capco.sales.dto.CartItemDto;
+import com.capco.sales.dto.CartLineQuantity;
+import com.capco.sales.dto.CartSessionResponse;
+import com.capco.sales.model.ProductType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class CartSessionControllerIT {
+
+    private static final String API_ENDPOINT = "/api/v1/cart/sessions";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String createSession() throws Exception {
+        String body = mockMvc.perform(post(API_ENDPOINT)
+                                     .contentType(MediaType.APPLICATION_JSON)
+                                     .content(objectMapper.writeValueAsString(
+                                             TestDataFactory.createCartSessionRequestIndividual())))
+                             .andExpect(status().isCreated())
+                             .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(body, CartSessionResponse.class).sessionId();
+    }
+
+    @Test
+    void shouldReturnCreatedSession_whenCreateSession_givenIndividualClientWithItems() throws Exception {
+        // given
+        String givenRequest = objectMapper.writeValueAsString(TestDataFactory.createCartSessionRequestIndividual());
+
+        // when & then
+        mockMvc.perform(post(API_ENDPOINT)
+                       .contentType(MediaType.APPLICATION_JSON)
+                       .content(givenRequest))
+               .andExpect(status().isCreated())
+               .andExpect(header().string("Location", containsString(API_ENDPOINT + "/")))
+               .andExpect(jsonPath("$.sessionId").isNotEmpty())
+               .andExpect(jsonPath("$.total").value(4200))
+               .andExpect(jsonPath("$.itemDetails.length()").value(2));
+    }
+
+    @Test
+    void shouldMaintainRunningTotal_whenMutatingLines_givenOpenSession() throws Exception {
+        // given
+        String givenSessionId = createSession();
+        String givenItemsEndpoint = API_ENDPOINT + "/" + givenSessionId + "/items";
+
+        // when & then - 2 high-end phones and 1 laptop, plus 4 mid-range phones
+        mockMvc.perform(post(givenItemsEndpoint)
+                       .contentType(MediaType.APPLICATION_JSON)
+                       .content(objectMapper.writeValueAsString(new CartItemDto(ProductType.MID_RANGE_PHONE, 4))))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.total").value(7400));
+
+        // laptops set to 2
+        mockMvc.perform(put(givenItemsEndpoint + "/LAPTOP")
+                       .contentType(MediaType.APPLICATION_JSON)
+                       .content(objectMapper.writeValueAsString(new CartLineQuantity(2))))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.total").value(8600));
+
+        // high-end phones removed
+        mockMvc.perform(delete(givenItemsEndpoint + "/HIGH_END_PHONE"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.total").value(5600))
+               .andExpect(jsonPath("$.itemDetails[0].productType").value("MID_RANGE_PHONE"))
+               .andExpect(jsonPath("$.itemDetails[1].productType").value("LAPTOP"));
+
+        mockMvc.perform(get(API_ENDPOINT + "/" + givenSessionId))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.total").value(5600));
+    }
+
+    @Test
+    void shouldReturnNotFound_whenGetSession_givenClosedSession() throws Exception {
+        // given
+        String givenSessionId = createSession();
+        mockMvc.perform(delete(API_ENDPOINT + "/" + givenSessionId))
+               .andExpect(status().isNoContent());
+
+        // when & then
+        mockMvc.perform(get(API_ENDPOINT + "/" + givenSessionId))
+               .andExpect(status().isNotFound())
+               .andExpect(jsonPath("$.status").value(404));
+    }
+
+    @Test
+    void shouldReturnBadRequest_whenChangeQuantity_givenZeroQuantity() throws Exception {
+        // given
+        String givenSessionId = createSession();
+
+        // when & then
+        mockMvc.perform(put(API_ENDPOINT + "/" + givenSessionId + "/items/LAPTOP")
+                       .contentType(MediaType.APPLICATION_JSON)
+                       .content(objectMapper.writeValueAsString(new CartLineQuantity(0))))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.message").value("Validation failed"))
+               .andExpect(jsonPath("$.errors.quantity").exists());
+    }
+
+    @Test
+    void shouldReturnBadRequest_whenRemoveItem_givenUnknownProductType() throws Exception {
+        // given
+        String givenSessionId = createSession();
+
+        // when & then
+        mockMvc.perform(delete(API_ENDPOINT + "/" + givenSessionId + "/items/TABLET"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.errors.productType").exists());
+    }
+}
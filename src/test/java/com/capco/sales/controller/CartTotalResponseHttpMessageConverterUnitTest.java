@@ -0,0 +1,68 @@
+package com.capco.sales.controller;
+
+import com.capco.sales.dto.AppliedDiscount;
+import com.capco.sales.dto.CartTotalResponse;
+import com.capco.sales.dto.ItemDetail;
+import com.capco.sales.model.ProductType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CartTotalResponseHttpMessageConverterUnitTest {
+
+    private static final CartTotalResponse RESPONSE = new CartTotalResponse(new BigDecimal("4079.50"), List.of(
+            new ItemDetail(ProductType.LAPTOP, 2, new BigDecimal("1200"), new BigDecimal("2400")),
+            new ItemDetail(ProductType.MID_RANGE_PHONE, 1, new BigDecimal("800.00"), new BigDecimal("800.00")),
+            new ItemDetail(ProductType.HIGH_END_PHONE, 1, new BigDecimal("1500"), new BigDecimal("1500"),
+                    List.of(new AppliedDiscount("SPRING_SALE", new BigDecimal("45.00")))),
+            new ItemDetail(ProductType.LAPTOP, 2, new BigDecimal("1200"), new BigDecimal("2400"))
+    ));
+
+    private static String write(CartTotalResponseHttpMessageConverter converter, CartTotalResponse response)
+            throws IOException {
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        converter.write(response, MediaType.APPLICATION_JSON, outputMessage);
+        return outputMessage.getBodyAsString();
+    }
+
+    @Test
+    void shouldWriteSameJsonAsObjectMapper_whenWrite_givenRecurringItemDetails() throws IOException {
+        // given
+        ObjectMapper givenObjectMapper = new ObjectMapper();
+        CartTotalResponseHttpMessageConverter givenConverter =
+                new CartTotalResponseHttpMessageConverter(givenObjectMapper, 100);
+
+        // when
+        String actualFirst = write(givenConverter, RESPONSE);
+        String actualSecond = write(givenConverter, RESPONSE);
+
+        // then
+        assertThat(actualFirst).isEqualTo(givenObjectMapper.writeValueAsString(RESPONSE));
+        assertThat(actualSecond).isEqualTo(actualFirst);
+        assertThat(givenConverter.stats().missCount()).isEqualTo(3);
+        assertThat(givenConverter.stats().hitCount()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldDelegateToObjectMapper_whenWrite_givenIndentedOutput() throws IOException {
+        // given
+        ObjectMapper givenObjectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        CartTotalResponseHttpMessageConverter givenConverter =
+                new CartTotalResponseHttpMessageConverter(givenObjectMapper, 100);
+
+        // when
+        String actual = write(givenConverter, RESPONSE);
+
+        // then
+        assertThat(actual).isEqualTo(givenObjectMapper.writeValueAsString(RESPONSE));
+        assertThat(givenConverter.stats().requestCount()).isZero();
+    }
+}
@@ -0,0 +1,83 @@
+package com.capco.sales.pricing;
+
+import com.capco.sales.config.PricingRulesProperties;
+import com.capco.sales.model.ContractLevel;
+import com.capco.sales.model.ProfessionalClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientTierCacheUnitTest {
+
+    private final AtomicInteger resolutions = new AtomicInteger();
+
+    private static ProfessionalClient client(String clientId, String revenue) {
+        return new ProfessionalClient(clientId, "Tech Corp", null, "REG123", new BigDecimal(revenue), "FR",
+                ContractLevel.GOLD);
+    }
+
+    private static ClientTierCache enabledCache() {
+        PricingRulesProperties properties = new PricingRulesProperties();
+        properties.getTierCache().setEnabled(true);
+        return new ClientTierCache(properties);
+    }
+
+    private PricingStrategy get(ClientTierCache cache, ProfessionalClient client) {
+        return cache.get(client, PricingDecisionTable.revenueCents(client.annualRevenue()), () -> {
+            resolutions.incrementAndGet();
+            return PricingDecisionTable.DEFAULT.resolve(client.country(), client.contractLevel(),
+                    client.annualRevenue());
+        });
+    }
+
+    @Test
+    void shouldResolveOnce_whenGet_givenSameClientAndRevenue() {
+        // given
+        ClientTierCache givenCache = enabledCache();
+        SimpleMeterRegistry givenRegistry = new SimpleMeterRegistry();
+        givenCache.bindTo(givenRegistry);
+
+        // when
+        get(givenCache, client("PRO001", "15000000"));
+        PricingStrategy actual = get(givenCache, client("PRO001", "15000000.00"));
+
+        // then
+        assertThat(actual).isEqualTo(HighRevenueProfessionalPricingStrategy.INSTANCE);
+        assertThat(resolutions).hasValue(1);
+        assertThat(givenCache.stats().hitCount()).isEqualTo(1);
+        assertThat(givenRegistry.get("cache.gets").tag("cache", "pricing.tiers").tag("result", "hit")
+                                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldResolveAgain_whenGet_givenChangedRevenue() {
+        // given
+        ClientTierCache givenCache = enabledCache();
+        get(givenCache, client("PRO001", "15000000"));
+
+        // when
+        PricingStrategy actual = get(givenCache, client("PRO001", "5000000"));
+
+        // then
+        assertThat(actual).isEqualTo(LowRevenueProfessionalPricingStrategy.INSTANCE);
+        assertThat(resolutions).hasValue(2);
+    }
+
+    @Test
+    void shouldResolveEveryTime_whenGet_givenDefaultProperties() {
+        // given
+        ClientTierCache givenCache = new ClientTierCache(new PricingRulesProperties());
+
+        // when
+        get(givenCache, client("PRO001", "15000000"));
+        get(givenCache, client("PRO001", "15000000"));
+
+        // then
+        assertThat(resolutions).hasValue(2);
+        assertThat(givenCache.stats().requestCount()).isZero();
+    }
+}
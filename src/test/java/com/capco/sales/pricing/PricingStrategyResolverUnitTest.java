@@ -0,0 +1,135 @@
+package com.capco.sales.pricing;
+
+import com.capco.sales.TestDataFactory;
+import com.capco.sales.config.PricingRulesProperties;
+import com.capco.sales.model.ContractLevel;
+import com.capco.sales.model.ProductType;
+import com.capco.sales.model.ProfessionalClient;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PricingStrategyResolverUnitTest {
+
+    private static PricingRulesProperties.Rule rule(String tier, String country, ContractLevel contractLevel,
+                                                    String revenueAbove) {
+        PricingRulesProperties.Rule rule = new PricingRulesProperties.Rule();
+        rule.setTier(tier)
+            .setCountry(country)
+            .setContractLevel(contractLevel)
+            .setRevenueAbove(revenueAbove != null ? new BigDecimal(revenueAbove) : null);
+        return rule;
+    }
+
+    private static PricingStrategyResolver createResolver(PricingRulesProperties.Rule... rules) {
+        PricingRulesProperties properties = new PricingRulesProperties();
+        properties.getProfessional().addAll(List.of(rules));
+        return TestDataFactory.createPricingStrategyResolver(properties);
+    }
+
+    private static ProfessionalClient client(String revenue, String country, ContractLevel contractLevel) {
+        return new ProfessionalClient("PRO001", "Tech Corp", null, "REG123", new BigDecimal(revenue), country,
+                contractLevel);
+    }
+
+    @Test
+    void shouldApplyBuiltInRevenueRules_whenResolve_givenNoConfiguredRules() {
+        // given
+        PricingStrategyResolver givenResolver = TestDataFactory.createDefaultPricingStrategyResolver();
+
+        // when & then
+        assertThat(givenResolver.resolve(client("10000000", null, null)))
+                .isEqualTo(LowRevenueProfessionalPricingStrategy.INSTANCE);
+        assertThat(givenResolver.resolve(client("10000000.001", null, null)))
+                .isEqualTo(HighRevenueProfessionalPricingStrategy.INSTANCE);
+        assertThat(givenResolver.resolve(TestDataFactory.createIndividualClient()))
+                .isEqualTo(IndividualPricingStrategy.INSTANCE);
+    }
+
+    @Test
+    void shouldApplyMostSpecificRule_whenResolve_givenCountryAndContractLevelRules() {
+        // given
+        PricingStrategyResolver givenResolver = createResolver(
+                rule("PROFESSIONAL_LOW_REVENUE", null, null, null),
+                rule("PROFESSIONAL_HIGH_REVENUE", "FR", ContractLevel.GOLD, null));
+
+        // when
+        PricingStrategy actualGold = givenResolver.resolve(client("1000", "FR", ContractLevel.GOLD));
+        PricingStrategy actualSilver = givenResolver.resolve(client("1000", "FR", ContractLevel.SILVER));
+
+        // then
+        assertThat(actualGold).isEqualTo(HighRevenueProfessionalPricingStrategy.INSTANCE);
+        assertThat(actualSilver).isEqualTo(LowRevenueProfessionalPricingStrategy.INSTANCE);
+    }
+
+    @Test
+    void shouldFallBackToGenericRule_whenResolve_givenRevenueBelowSpecificBands() {
+        // given
+        PricingStrategyResolver givenResolver = createResolver(
+                rule("PROFESSIONAL_LOW_REVENUE", null, null, null),
+                rule("PROFESSIONAL_HIGH_REVENUE", "DE", null, "500000"));
+
+        // when
+        PricingStrategy actualBelow = givenResolver.resolve(client("500000", "DE", ContractLevel.STANDARD));
+        PricingStrategy actualAbove = givenResolver.resolve(client("500000.01", "DE", ContractLevel.STANDARD));
+
+        // then
+        assertThat(actualBelow).isEqualTo(LowRevenueProfessionalPricingStrategy.INSTANCE);
+        assertThat(actualAbove).isEqualTo(HighRevenueProfessionalPricingStrategy.INSTANCE);
+    }
+
+    @Test
+    void shouldCreateTier_whenResolve_givenRuleWithPrices() {
+        // given
+        PricingRulesProperties.Rule givenRule = rule("PROFESSIONAL_PLATINUM", null, ContractLevel.PLATINUM, null);
+        givenRule.setPrices(Map.of(
+                ProductType.HIGH_END_PHONE, new BigDecimal("950"),
+                ProductType.MID_RANGE_PHONE, new BigDecimal("500"),
+                ProductType.LAPTOP, new BigDecimal("850")));
+        PricingStrategyResolver givenResolver = createResolver(
+                rule("PROFESSIONAL_LOW_REVENUE", null, null, null), givenRule);
+
+        // when
+        PricingStrategy actual = givenResolver.resolve(client("1000", "FR", ContractLevel.PLATINUM));
+
+        // then
+        assertThat(actual.tier()).isEqualTo("PROFESSIONAL_PLATINUM");
+        assertThat(actual.getPrice(ProductType.LAPTOP)).isEqualByComparingTo("850");
+        assertThat(givenResolver.forTier("PROFESSIONAL_PLATINUM")).isSameAs(actual);
+        assertThat(givenResolver.forTier("INDIVIDUAL")).isEqualTo(IndividualPricingStrategy.INSTANCE);
+    }
+
+    @Test
+    void shouldFail_whenCreated_givenUnknownTierWithoutPrices() {
+        // given & when & then
+        assertThatThrownBy(() -> createResolver(rule("PROFESSIONAL_UNKNOWN", null, null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldFail_whenCreated_givenSubCentOrOverlappingBounds() {
+        // given & when & then
+        assertThatThrownBy(() -> createResolver(rule("PROFESSIONAL_LOW_REVENUE", null, null, "1000.001")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> createResolver(
+                rule("PROFESSIONAL_LOW_REVENUE", "FR", null, "1000"),
+                rule("PROFESSIONAL_HIGH_REVENUE", "FR", null, "1000.00")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldFail_whenResolve_givenNoMatchingRule() {
+        // given
+        PricingStrategyResolver givenResolver = createResolver(
+                rule("PROFESSIONAL_HIGH_REVENUE", null, null, "1000"));
+
+        // when & then
+        assertThatThrownBy(() -> givenResolver.resolve(client("1000", null, null)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,190 @@
+package com.capco.sales.pricing;
+
+import com.capco.sales.config.CartProperties;
+import com.capco.sales.config.PromotionProperties;
+import com.capco.sales.dto.AppliedDiscount;
+import com.capco.sales.dto.CartItemDto;
+import com.capco.sales.dto.CartTotalResponse;
+import com.capco.sales.dto.ItemDetail;
+import com.capco.sales.model.ProductType;
+import com.capco.sales.service.CartPricingEngine;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PromotionEngineUnitTest {
+
+    private final CartPricingEngine pricingEngine = new CartPricingEngine(new CartProperties());
+
+    private static PromotionProperties.Promotion promotion(String id, PromotionType type, String percent,
+                                                           ProductType... products) {
+        PromotionProperties.Promotion promotion = new PromotionProperties.Promotion();
+        promotion.setId(id)
+                 .setType(type)
+                 .setPercent(new BigDecimal(percent))
+                 .setProducts(products.length == 0 ? EnumSet.noneOf(ProductType.class) : EnumSet.of(products[0], products));
+        return promotion;
+    }
+
+    private static PromotionEngine createEngine(PromotionProperties.Promotion... promotions) {
+        PromotionProperties properties = new PromotionProperties();
+        properties.getRules().addAll(List.of(promotions));
+        return new PromotionEngine(properties);
+    }
+
+    private CartTotalResponse price(PricingStrategy strategy, CartItemDto... items) {
+        return pricingEngine.price(strategy.priceTable(), List.of(items));
+    }
+
+    @Test
+    void shouldReturnSameResponse_whenApply_givenNoPromotions() {
+        // given
+        PromotionEngine givenEngine = createEngine();
+        CartTotalResponse givenResponse = price(IndividualPricingStrategy.INSTANCE,
+                new CartItemDto(ProductType.LAPTOP, 1));
+
+        // when
+        CartTotalResponse actual = givenEngine.apply(IndividualPricingStrategy.INSTANCE, givenResponse);
+
+        // then
+        assertThat(actual).isSameAs(givenResponse);
+    }
+
+    @Test
+    void shouldApplyBestReachedBreak_whenApply_givenQuantityBreaksOverSeveralLines() {
+        // given
+        PromotionEngine givenEngine = createEngine(
+                promotion("LAPTOP_3", PromotionType.QUANTITY_BREAK, "10", ProductType.LAPTOP).setMinQuantity(3),
+                promotion("LAPTOP_10", PromotionType.QUANTITY_BREAK, "15", ProductType.LAPTOP).setMinQuantity(10));
+        CartTotalResponse givenResponse = price(IndividualPricingStrategy.INSTANCE,
+                new CartItemDto(ProductType.LAPTOP, 2), new CartItemDto(ProductType.LAPTOP, 2));
+        List<AppliedDiscount> expectedDiscounts = List.of(new AppliedDiscount("LAPTOP_3", new BigDecimal("240.00")));
+
+        // when
+        CartTotalResponse actual = givenEngine.apply(IndividualPricingStrategy.INSTANCE, givenResponse);
+
+        // then
+        assertThat(actual.total()).isEqualTo(new BigDecimal("4320.00"));
+        assertThat(actual.itemDetails()).extracting(ItemDetail::discounts)
+                                        .containsExactly(expectedDiscounts, expectedDiscounts);
+        assertThat(actual.itemDetails()).extracting(ItemDetail::totalPrice)
+                                        .containsExactly(new BigDecimal("2400"), new BigDecimal("2400"));
+    }
+
+    @Test
+    void shouldApplyBestBreak_whenApply_givenBreaksSharingMinimumQuantity() {
+        // given
+        PromotionEngine givenEngine = createEngine(
+                promotion("LAPTOP_1", PromotionType.QUANTITY_BREAK, "5", ProductType.LAPTOP).setMinQuantity(1),
+                promotion("LAPTOP_3_LOW", PromotionType.QUANTITY_BREAK, "10", ProductType.LAPTOP).setMinQuantity(3),
+                promotion("LAPTOP_3_HIGH", PromotionType.QUANTITY_BREAK, "20", ProductType.LAPTOP).setMinQuantity(3),
+                promotion("LAPTOP_3_MID", PromotionType.QUANTITY_BREAK, "15", ProductType.LAPTOP).setMinQuantity(3));
+
+        // when & then
+        for (int quantity = 3; quantity <= 6; quantity++) {
+            CartTotalResponse actual = givenEngine.apply(IndividualPricingStrategy.INSTANCE,
+                    price(IndividualPricingStrategy.INSTANCE, new CartItemDto(ProductType.LAPTOP, quantity)));
+            assertThat(actual.itemDetails().get(0).discounts()).extracting(AppliedDiscount::promotion)
+                                                               .containsExactly("LAPTOP_3_HIGH");
+        }
+    }
+
+    @Test
+    void shouldGiveSameTotalAsFoldedLine_whenApply_givenDiscountSpreadOverLines() {
+        // given
+        PromotionEngine givenEngine = createEngine(promotion("TINY", PromotionType.PERCENTAGE, "0.001"));
+        CartTotalResponse givenSplitResponse = price(IndividualPricingStrategy.INSTANCE,
+                new CartItemDto(ProductType.MID_RANGE_PHONE, 1), new CartItemDto(ProductType.MID_RANGE_PHONE, 1),
+                new CartItemDto(ProductType.MID_RANGE_PHONE, 1));
+        CartTotalResponse givenFoldedResponse = price(IndividualPricingStrategy.INSTANCE,
+                new CartItemDto(ProductType.MID_RANGE_PHONE, 3));
+
+        // when
+        CartTotalResponse actualSplit = givenEngine.apply(IndividualPricingStrategy.INSTANCE, givenSplitResponse);
+        CartTotalResponse actualFolded = givenEngine.apply(IndividualPricingStrategy.INSTANCE, givenFoldedResponse);
+
+        // then
+        assertThat(actualFolded.total()).isEqualTo(new BigDecimal("2399.98"));
+        assertThat(actualSplit.total()).isEqualTo(actualFolded.total());
+        assertThat(actualSplit.itemDetails()).extracting(ItemDetail::discounts).containsExactly(
+                List.of(new AppliedDiscount("TINY", new BigDecimal("0.01"))),
+                List.of(),
+                List.of(new AppliedDiscount("TINY", new BigDecimal("0.01"))));
+    }
+
+    @Test
+    void shouldDiscountCompleteSetsOnly_whenApply_givenBundle() {
+        // given
+        PromotionEngine givenEngine = createEngine(
+                promotion("PHONE_LAPTOP", PromotionType.BUNDLE, "5", ProductType.HIGH_END_PHONE, ProductType.LAPTOP));
+        CartTotalResponse givenResponse = price(IndividualPricingStrategy.INSTANCE,
+                new CartItemDto(ProductType.HIGH_END_PHONE, 3), new CartItemDto(ProductType.LAPTOP, 1),
+                new CartItemDto(ProductType.MID_RANGE_PHONE, 1));
+
+        // when
+        CartTotalResponse actual = givenEngine.apply(IndividualPricingStrategy.INSTANCE, givenResponse);
+
+        // then
+        assertThat(actual.total()).isEqualTo(new BigDecimal("6365.00"));
+        assertThat(actual.itemDetails()).extracting(ItemDetail::discounts).containsExactly(
+                List.of(new AppliedDiscount("PHONE_LAPTOP", new BigDecimal("75.00"))),
+                List.of(new AppliedDiscount("PHONE_LAPTOP", new BigDecimal("60.00"))),
+                List.of());
+    }
+
+    @Test
+    void shouldApplyTierPromotionsOnly_whenApply_givenPromotionRestrictedToTier() {
+        // given
+        PromotionEngine givenEngine = createEngine(
+                promotion("INDIVIDUAL_SALE", PromotionType.PERCENTAGE, "20").setTier("INDIVIDUAL"));
+        CartTotalResponse givenIndividualResponse = price(IndividualPricingStrategy.INSTANCE,
+                new CartItemDto(ProductType.MID_RANGE_PHONE, 1));
+        CartTotalResponse givenProfessionalResponse = price(HighRevenueProfessionalPricingStrategy.INSTANCE,
+                new CartItemDto(ProductType.MID_RANGE_PHONE, 1));
+
+        // when
+        CartTotalResponse actualIndividual = givenEngine.apply(IndividualPricingStrategy.INSTANCE,
+                givenIndividualResponse);
+        CartTotalResponse actualProfessional = givenEngine.apply(HighRevenueProfessionalPricingStrategy.INSTANCE,
+                givenProfessionalResponse);
+
+        // then
+        assertThat(actualIndividual.total()).isEqualTo(new BigDecimal("640.00"));
+        assertThat(actualProfessional).isSameAs(givenProfessionalResponse);
+    }
+
+    @Test
+    void shouldCapDiscountsAtLinePrice_whenApply_givenStackedPromotions() {
+        // given
+        PromotionEngine givenEngine = createEngine(
+                promotion("HALF", PromotionType.QUANTITY_BREAK, "50", ProductType.LAPTOP).setMinQuantity(1),
+                promotion("FREE", PromotionType.PERCENTAGE, "80", ProductType.LAPTOP));
+        CartTotalResponse givenResponse = price(IndividualPricingStrategy.INSTANCE,
+                new CartItemDto(ProductType.LAPTOP, 1));
+
+        // when
+        CartTotalResponse actual = givenEngine.apply(IndividualPricingStrategy.INSTANCE, givenResponse);
+
+        // then
+        assertThat(actual.total()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(actual.itemDetails().get(0).discounts()).containsExactly(
+                new AppliedDiscount("HALF", new BigDecimal("600.00")),
+                new AppliedDiscount("FREE", new BigDecimal("600.00")));
+    }
+
+    @Test
+    void shouldFail_whenCreated_givenInvalidPromotions() {
+        // given & when & then
+        assertThatThrownBy(() -> createEngine(promotion("BAD", PromotionType.PERCENTAGE, "120")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> createEngine(promotion("BAD", PromotionType.BUNDLE, "10", ProductType.LAPTOP)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> createEngine(promotion("BAD", PromotionType.QUANTITY_BREAK, "10")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
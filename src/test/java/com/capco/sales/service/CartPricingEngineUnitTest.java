@@ -0,0 +1,121 @@
+package com.capco.sales.service;
+
+import com.capco.sales.config.CartProperties;
+import com.capco.sales.dto.CartItemDto;
+import com.capco.sales.dto.CartTotalResponse;
+import com.capco.sales.dto.ItemDetail;
+import com.capco.sales.model.ProductType;
+import com.capco.sales.pricing.HighRevenueProfessionalPricingStrategy;
+import com.capco.sales.pricing.IndividualPricingStrategy;
+import com.capco.sales.pricing.LowRevenueProfessionalPricingStrategy;
+import com.capco.sales.pricing.PriceTable;
+import com.capco.sales.pricing.PricingStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CartPricingEngineUnitTest {
+
+    private CartPricingEngine pricingEngine;
+
+    @BeforeEach
+    void setup() {
+        pricingEngine = new CartPricingEngine(new CartProperties());
+    }
+
+    @Test
+    void shouldMatchBigDecimalArithmetic_whenPrice_givenRandomCartsForEveryStrategy() {
+        // given
+        Random random = new Random(42);
+        List<PricingStrategy> givenStrategies = List.of(
+                IndividualPricingStrategy.INSTANCE,
+                LowRevenueProfessionalPricingStrategy.INSTANCE,
+                HighRevenueProfessionalPricingStrategy.INSTANCE
+        );
+
+        for (PricingStrategy givenStrategy : givenStrategies) {
+            for (int cart = 0; cart < 50; cart++) {
+                List<CartItemDto> givenItems = randomItems(random, 1 + random.nextInt(60));
+                CartTotalResponse expected = priceWithBigDecimal(givenStrategy, givenItems);
+
+                // when
+                CartTotalResponse actual = pricingEngine.price(givenStrategy.priceTable(), givenItems);
+
+                // then
+                assertThat(actual).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void shouldFallBackToBigDecimal_whenPrice_givenTotalOverflowingLongCents() {
+        // given
+        PricingStrategy givenStrategy = IndividualPricingStrategy.INSTANCE;
+        List<CartItemDto> givenItems = Collections.nCopies(
+                30_000, new CartItemDto(ProductType.HIGH_END_PHONE, Integer.MAX_VALUE));
+        CartTotalResponse expected = priceWithBigDecimal(givenStrategy, givenItems);
+
+        // when
+        CartTotalResponse actual = pricingEngine.price(givenStrategy.priceTable(), givenItems);
+
+        // then
+        assertThat(actual.total()).isEqualTo(expected.total());
+        assertThat(actual.total()).isGreaterThan(BigDecimal.valueOf(Long.MAX_VALUE).movePointLeft(2));
+        assertThat(actual.itemDetails()).isEqualTo(expected.itemDetails());
+    }
+
+    @Test
+    void shouldMatchSequentialPricing_whenPrice_givenCartAboveParallelThreshold() {
+        // given
+        CartPricingEngine givenParallelEngine = new CartPricingEngine(new CartProperties().setParallelThreshold(1));
+        CartPricingEngine givenSequentialEngine = new CartPricingEngine(new CartProperties().setParallelThreshold(0));
+        List<CartItemDto> givenItems = randomItems(new Random(42), 10 * CartPricingEngine.CHUNK_SIZE + 17);
+        PriceTable givenSubCentPrices = PriceTable.of(Map.of(
+                ProductType.HIGH_END_PHONE, new BigDecimal("999.999"),
+                ProductType.MID_RANGE_PHONE, new BigDecimal("550.5"),
+                ProductType.LAPTOP, new BigDecimal("1000")));
+
+        for (PriceTable givenPrices : List.of(IndividualPricingStrategy.INSTANCE.priceTable(), givenSubCentPrices)) {
+            CartTotalResponse expected = givenSequentialEngine.price(givenPrices, givenItems);
+
+            // when
+            CartTotalResponse actual = givenParallelEngine.price(givenPrices, givenItems);
+
+            // then
+            assertThat(actual).isEqualTo(expected);
+            assertThat(actual.total().scale()).isEqualTo(expected.total().scale());
+        }
+    }
+
+    private static List<CartItemDto> randomItems(Random random, int size) {
+        ProductType[] productTypes = ProductType.values();
+        List<CartItemDto> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(new CartItemDto(productTypes[random.nextInt(productTypes.length)], 1 + random.nextInt(1_000)));
+        }
+        return items;
+    }
+
+    private static CartTotalResponse priceWithBigDecimal(PricingStrategy strategy, List<CartItemDto> items) {
+        List<ItemDetail> itemDetails = items.stream()
+                                            .map(item -> new ItemDetail(
+                                                    item.productType(),
+                                                    item.quantity(),
+                                                    strategy.getPrice(item.productType()),
+                                                    strategy.getPrice(item.productType())
+                                                            .multiply(BigDecimal.valueOf(item.quantity()))))
+                                            .toList();
+        BigDecimal total = itemDetails.stream()
+                                      .map(ItemDetail::totalPrice)
+                                      .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return new CartTotalResponse(total, itemDetails);
+    }
+}
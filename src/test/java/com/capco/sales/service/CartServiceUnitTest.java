@@ -1,16 +1,27 @@
 package com.capco.sales.service;
 
 import com.capco.sales.TestDataFactory;
+import com.capco.sales.catalog.NegotiatedPrices;
+import com.capco.sales.config.CartProperties;
+import com.capco.sales.config.NegotiatedPriceProperties;
 import com.capco.sales.dto.CartItemDto;
 import com.capco.sales.dto.CartTotalResponse;
+import com.capco.sales.dto.CartView;
 import com.capco.sales.dto.ItemDetail;
+import com.capco.sales.dto.LineAggregation;
 import com.capco.sales.dto.ShoppingCartRequest;
+import com.capco.sales.metrics.CartMetrics;
 import com.capco.sales.model.IndividualClient;
 import com.capco.sales.model.ProductType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
 import static com.capco.sales.TestDataFactory.*;
@@ -18,11 +29,27 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 class CartServiceUnitTest {
 
+    @TempDir
+    private Path tempDir;
+
     private CartService cartService;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setup() {
-        cartService = new CartService();
+        meterRegistry = new SimpleMeterRegistry();
+        cartService = createCartService(new CartProperties());
+    }
+
+    private CartService createCartService(CartProperties properties) {
+        return createCartService(properties, TestDataFactory.createNegotiatedPrices());
+    }
+
+    private CartService createCartService(CartProperties properties, NegotiatedPrices negotiatedPrices) {
+        return new CartService(new CartPricingEngine(new CartProperties()), TestDataFactory.createBuiltInPriceCatalog(),
+                TestDataFactory.createDefaultPricingStrategyResolver(), negotiatedPrices,
+                TestDataFactory.createPromotionEngine(), properties,
+                new CartQuoteCache(properties), new CartMetrics(meterRegistry));
     }
 
     @Test
@@ -120,4 +147,188 @@ class CartServiceUnitTest {
                 .usingRecursiveComparison()
                 .isEqualTo(expected);
     }
+
+    @Test
+    void shouldFoldLinesInFirstOccurrenceOrder_whenCalculateTotal_givenFirstOccurrenceAggregation() {
+        // given
+        ShoppingCartRequest givenRequest = TestDataFactory.createShoppingCartRequestWithDuplicateLines();
+        CartTotalResponse expected = new CartTotalResponse(new BigDecimal("7400"), List.of(
+                new ItemDetail(ProductType.LAPTOP, 3, PRICE_INDIVIDUAL_LAPTOP, new BigDecimal("3600")),
+                new ItemDetail(ProductType.HIGH_END_PHONE, 2, PRICE_INDIVIDUAL_HIGH_END, new BigDecimal("3000")),
+                new ItemDetail(ProductType.MID_RANGE_PHONE, 1, new BigDecimal("800"), new BigDecimal("800"))
+        ));
+
+        // when
+        CartTotalResponse actual = cartService.calculateTotal(givenRequest, LineAggregation.FIRST_OCCURRENCE);
+
+        // then
+        assertThat(actual)
+                .usingRecursiveComparison()
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void shouldFoldLinesInProductTypeOrder_whenCalculateTotal_givenProductTypeAggregation() {
+        // given
+        ShoppingCartRequest givenRequest = TestDataFactory.createShoppingCartRequestWithDuplicateLines();
+        CartTotalResponse unaggregated = cartService.calculateTotal(givenRequest, LineAggregation.NONE);
+
+        // when
+        CartTotalResponse actual = cartService.calculateTotal(givenRequest, LineAggregation.PRODUCT_TYPE);
+
+        // then
+        assertThat(actual.total()).isEqualTo(unaggregated.total());
+        assertThat(unaggregated.itemDetails()).hasSize(5);
+        assertThat(actual.itemDetails())
+                .extracting(ItemDetail::productType)
+                .containsExactly(ProductType.HIGH_END_PHONE, ProductType.MID_RANGE_PHONE, ProductType.LAPTOP);
+    }
+
+    @Test
+    void shouldFoldLinesFromConfiguration_whenCalculateTotal_givenConfiguredAggregation() {
+        // given
+        ShoppingCartRequest givenRequest = TestDataFactory.createShoppingCartRequestWithDuplicateLines();
+        CartService givenService = createCartService(
+                new CartProperties().setLineAggregation(LineAggregation.PRODUCT_TYPE));
+
+        // when
+        CartTotalResponse actual = givenService.calculateTotal(givenRequest);
+
+        // then
+        assertThat(actual.itemDetails()).hasSize(3);
+    }
+
+    @Test
+    void shouldReturnTotalOnly_whenCalculateTotal_givenTotalView() {
+        // given
+        ShoppingCartRequest givenRequest = TestDataFactory.createShoppingCartRequestWithDuplicateLines();
+        CartTotalResponse full = cartService.calculateTotal(givenRequest, LineAggregation.NONE);
+
+        // when
+        CartTotalResponse actual = cartService.calculateTotal(givenRequest, LineAggregation.NONE, CartView.TOTAL);
+
+        // then
+        assertThat(actual.total()).isEqualTo(full.total());
+        assertThat(actual.itemDetails()).isEmpty();
+    }
+
+    @Test
+    void shouldSummarizePerProductType_whenCalculateTotal_givenSummaryView() {
+        // given
+        ShoppingCartRequest givenRequest = TestDataFactory.createShoppingCartRequestWithDuplicateLines();
+        CartTotalResponse expected = cartService.calculateTotal(givenRequest, LineAggregation.PRODUCT_TYPE);
+
+        // when
+        CartTotalResponse actual = cartService.calculateTotal(givenRequest, LineAggregation.NONE, CartView.SUMMARY);
+
+        // then
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    void shouldReturnCachedQuote_whenCalculateTotal_givenSameTierAndLinesForAnotherClient() {
+        // given
+        ShoppingCartRequest givenFirstRequest = TestDataFactory.createShoppingCartRequestIndividual();
+        ShoppingCartRequest givenSecondRequest = new ShoppingCartRequest(
+                new IndividualClient("IND002", "Jane", "Roe"),
+                givenFirstRequest.items()
+        );
+        CartTotalResponse expected = cartService.calculateTotal(givenFirstRequest);
+
+        // when
+        CartTotalResponse actual = cartService.calculateTotal(givenSecondRequest);
+
+        // then
+        assertThat(actual).isSameAs(expected);
+    }
+
+    @Test
+    void shouldNotShareQuotes_whenCalculateTotal_givenSameLinesForAnotherTier() {
+        // given
+        ShoppingCartRequest givenHighRevenueRequest = TestDataFactory.createShoppingCartRequestProfessionalHighRevenue();
+        ShoppingCartRequest givenLowRevenueRequest = new ShoppingCartRequest(
+                TestDataFactory.createProfessionalClientLowRevenue(),
+                givenHighRevenueRequest.items()
+        );
+        cartService.calculateTotal(givenHighRevenueRequest);
+
+        // when
+        CartTotalResponse actual = cartService.calculateTotal(givenLowRevenueRequest);
+
+        // then
+        assertThat(actual.total()).isEqualTo(new BigDecimal("6000"));
+    }
+
+    @Test
+    void shouldRecordPricingMetrics_whenCalculateTotal_givenIndividualClient() {
+        // given
+        ShoppingCartRequest givenRequest = TestDataFactory.createShoppingCartRequestIndividual();
+
+        // when
+        cartService.calculateTotal(givenRequest);
+        cartService.calculateTotal(givenRequest);
+
+        // then
+        assertThat(meterRegistry.get("cart.pricing")
+                                .tag("client.type", "INDIVIDUAL")
+                                .tag("pricing.tier", "INDIVIDUAL")
+                                .timer()
+                                .count()).isEqualTo(2);
+        assertThat(meterRegistry.get("cart.size").summary().totalAmount()).isEqualTo(4);
+        assertThat(meterRegistry.get("cart.lines.priced").counter().count()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldApplyNegotiatedPrices_whenCalculateTotal_givenClientWithNegotiatedPrices() throws IOException {
+        // given
+        Path givenFile = Files.writeString(tempDir.resolve("negotiated-prices.csv"), """
+                # clientId,productType,price
+                PRO001,LAPTOP,849.99
+                """);
+        CartProperties givenProperties = new CartProperties();
+        CartService givenService = createCartService(givenProperties,
+                TestDataFactory.createNegotiatedPrices(new NegotiatedPriceProperties().setPath(givenFile)));
+        ShoppingCartRequest givenRequest = new ShoppingCartRequest(
+                TestDataFactory.createProfessionalClientHighRevenue(),
+                List.of(new CartItemDto(ProductType.LAPTOP, 2), new CartItemDto(ProductType.MID_RANGE_PHONE, 1))
+        );
+        CartTotalResponse expected = new CartTotalResponse(new BigDecimal("2249.98"), List.of(
+                new ItemDetail(ProductType.LAPTOP, 2, new BigDecimal("849.99"), new BigDecimal("1699.98")),
+                new ItemDetail(ProductType.MID_RANGE_PHONE, 1, PRICE_PROFESSIONAL_HIGH_MID_RANGE,
+                        PRICE_PROFESSIONAL_HIGH_MID_RANGE)
+        ));
+
+        // when
+        CartTotalResponse actual = givenService.calculateTotal(givenRequest);
+
+        // then
+        assertThat(actual)
+                .usingRecursiveComparison()
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void shouldApplyTierPrices_whenCalculateTotal_givenIndividualClientSharingNegotiatedClientId() throws IOException {
+        // given
+        Path givenFile = Files.writeString(tempDir.resolve("negotiated-prices.csv"), """
+                PRO001,LAPTOP,849.99
+                """);
+        CartService givenService = createCartService(new CartProperties(),
+                TestDataFactory.createNegotiatedPrices(new NegotiatedPriceProperties().setPath(givenFile)));
+        ShoppingCartRequest givenRequest = new ShoppingCartRequest(
+                new IndividualClient(CLIENT_ID_PROFESSIONAL_HIGH, CLIENT_FIRST_NAME, CLIENT_LAST_NAME),
+                List.of(new CartItemDto(ProductType.LAPTOP, 2))
+        );
+        CartTotalResponse expected = new CartTotalResponse(new BigDecimal("2400"), List.of(
+                new ItemDetail(ProductType.LAPTOP, 2, PRICE_INDIVIDUAL_LAPTOP, new BigDecimal("2400"))
+        ));
+
+        // when
+        CartTotalResponse actual = givenService.calculateTotal(givenRequest);
+
+        // then
+        assertThat(actual)
+                .usingRecursiveComparison()
+                .isEqualTo(expected);
+    }
 }
@@ -0,0 +1,291 @@
+package com.capco.sales.service;
+
+import com.capco.sales.TestDataFactory;
+import com.capco.sales.catalog.NegotiatedPrices;
+import com.capco.sales.config.CartProperties;
+import com.capco.sales.config.NegotiatedPriceProperties;
+import com.capco.sales.dto.CartItemDto;
+import com.capco.sales.dto.CartSessionRequest;
+import com.capco.sales.dto.CartSessionResponse;
+import com.capco.sales.exception.CartSessionNotFoundException;
+import com.capco.sales.model.ProductType;
+import com.capco.sales.model.ProfessionalClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CartSessionJournalUnitTest {
+
+    @TempDir
+    private Path directory;
+
+    private final List<CartSessionJournal> journals = new ArrayList<>();
+    private NegotiatedPrices negotiatedPrices = TestDataFactory.createNegotiatedPrices();
+
+    @AfterEach
+    void closeJournals() {
+        journals.forEach(CartSessionJournal::close);
+    }
+
+    /**
+     * Starts a service on the journal directory, as the application does on startup.
+     */
+    private CartSessionService start() {
+        return start(CartSessionJournal::new);
+    }
+
+    private CartSessionService start(Function<CartProperties, CartSessionJournal> journalFactory) {
+        return start(journalFactory, 100_000);
+    }
+
+    private CartSessionService start(Function<CartProperties, CartSessionJournal> journalFactory, long maximumSize) {
+        CartProperties properties = new CartProperties();
+        properties.getSessions().setShards(1).setMaximumSize(maximumSize);
+        properties.getSessions().getJournal().setDirectory(directory);
+        CartSessionJournal journal = journalFactory.apply(properties);
+        journals.add(journal);
+
+        CartSessionService service = new CartSessionService(TestDataFactory.createBuiltInPriceCatalog(),
+                TestDataFactory.createDefaultPricingStrategyResolver(), negotiatedPrices,
+                TestDataFactory.createPromotionEngine(), new CartSessionStore(properties), journal);
+        service.restoreSessions();
+        return service;
+    }
+
+    /**
+     * Simulates a crash: the writer stops without the final snapshot of a graceful shutdown.
+     */
+    private void crash() {
+        journals.removeLast();
+    }
+
+    @Test
+    void shouldRestoreSessions_whenRestarted_givenJournaledChangesOnly() {
+        // given
+        CartSessionService givenService = start();
+        String givenSessionId = givenService.create(TestDataFactory.createCartSessionRequestIndividual()).sessionId();
+        givenService.addItem(givenSessionId, new CartItemDto(ProductType.MID_RANGE_PHONE, 4));
+        givenService.removeItem(givenSessionId, ProductType.HIGH_END_PHONE);
+        String givenDeletedSessionId = givenService.create(TestDataFactory.createCartSessionRequestIndividual())
+                                                   .sessionId();
+        givenService.delete(givenDeletedSessionId);
+        CartSessionResponse expected = givenService.get(givenSessionId);
+        crash();
+
+        // when
+        CartSessionService actualService = start();
+
+        // then - (800 * 4) + (1200 * 1)
+        assertThat(actualService.get(givenSessionId)).isEqualTo(expected);
+        assertThat(expected.total()).isEqualTo(new BigDecimal("4400"));
+        assertThatThrownBy(() -> actualService.get(givenDeletedSessionId))
+                .isInstanceOf(CartSessionNotFoundException.class);
+    }
+
+    @Test
+    void shouldRestoreSessions_whenRestarted_givenSnapshotAndNewerChanges() throws IOException {
+        // given
+        CartSessionService givenService = start();
+        String givenSessionId = givenService.create(TestDataFactory.createCartSessionRequestIndividual()).sessionId();
+        journals.getLast().snapshot();
+        givenService.changeQuantity(givenSessionId, ProductType.LAPTOP, 5);
+        CartSessionResponse expected = givenService.get(givenSessionId);
+        crash();
+
+        // when
+        CartSessionService actualService = start();
+
+        // then - (1500 * 2) + (1200 * 5); the snapshot replaced the first segment
+        assertThat(actualService.get(givenSessionId)).isEqualTo(expected);
+        assertThat(expected.total()).isEqualTo(new BigDecimal("9000"));
+        assertThat(files("journal-")).hasSize(2).noneMatch(file -> file.endsWith("journal-00000000000000000000.wal"));
+        assertThat(files("snapshot-")).hasSize(1);
+    }
+
+    @Test
+    void shouldRestoreSession_whenRestarted_givenSnapshotWhileCreating() throws IOException {
+        // given
+        CartSessionService givenService = start(SnapshotAfterEachRecordJournal::new);
+        String givenSessionId = givenService.create(TestDataFactory.createCartSessionRequestIndividual()).sessionId();
+        CartSessionResponse expected = givenService.get(givenSessionId);
+        crash();
+
+        // when
+        CartSessionService actualService = start();
+
+        // then - the segments holding the creation records were deleted by the snapshots
+        assertThat(actualService.get(givenSessionId)).isEqualTo(expected);
+        assertThat(files("journal-")).noneMatch(file -> file.endsWith("journal-00000000000000000000.wal"));
+    }
+
+    @Test
+    void shouldNotRestoreSession_whenRestarted_givenSessionEvictedByStore() {
+        // given
+        CartSessionService givenService = start(CartSessionJournal::new, 1);
+        String givenEvictedSessionId = givenService.create(TestDataFactory.createCartSessionRequestIndividual())
+                                                   .sessionId();
+        String givenSessionId = givenService.create(TestDataFactory.createCartSessionRequestIndividual()).sessionId();
+        CartSessionResponse expected = givenService.get(givenSessionId);
+        crash();
+
+        // when
+        CartSessionService actualService = start();
+
+        // then
+        assertThat(actualService.get(givenSessionId)).isEqualTo(expected);
+        assertThatThrownBy(() -> actualService.get(givenEvictedSessionId))
+                .isInstanceOf(CartSessionNotFoundException.class);
+    }
+
+    @Test
+    void shouldKeepNegotiatedPrices_whenRestarted_givenProfessionalClientSession() throws IOException {
+        // given
+        Path givenPrices = Files.writeString(directory.resolve("negotiated-prices.csv"), "PRO001,LAPTOP,849.99\n");
+        negotiatedPrices = TestDataFactory.createNegotiatedPrices(new NegotiatedPriceProperties().setPath(givenPrices));
+        CartSessionService givenService = start();
+        String givenSessionId = givenService.create(new CartSessionRequest(
+                TestDataFactory.createProfessionalClientHighRevenue(), List.of(new CartItemDto(ProductType.LAPTOP, 2))))
+                                            .sessionId();
+        CartSessionResponse expected = givenService.get(givenSessionId);
+        crash();
+
+        // when
+        CartSessionService actualReplayedService = start();
+        journals.getLast().close();
+        CartSessionService actualSnapshottedService = start();
+
+        // then
+        assertThat(expected.total()).isEqualTo(new BigDecimal("1699.98"));
+        assertThat(actualReplayedService.get(givenSessionId)).isEqualTo(expected);
+        assertThat(actualSnapshottedService.get(givenSessionId)).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldRestoreSession_whenRestarted_givenClientIdLongerThanSignedShortLength() {
+        // given - 40000 UTF-8 bytes, a negative length as a signed short
+        ProfessionalClient givenClient = TestDataFactory.createProfessionalClientHighRevenue();
+        CartSessionService givenService = start();
+        String givenSessionId = givenService.create(new CartSessionRequest(new ProfessionalClient("P".repeat(40_000),
+                givenClient.companyName(), givenClient.vatNumber(), givenClient.registrationNumber(),
+                givenClient.annualRevenue()), List.of(new CartItemDto(ProductType.LAPTOP, 2)))).sessionId();
+        CartSessionResponse expected = givenService.get(givenSessionId);
+        crash();
+
+        // when
+        CartSessionService actualReplayedService = start();
+        journals.getLast().close();
+        CartSessionService actualSnapshottedService = start();
+
+        // then
+        assertThat(actualReplayedService.get(givenSessionId)).isEqualTo(expected);
+        assertThat(actualSnapshottedService.get(givenSessionId)).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldRestoreFromSnapshotOnly_whenRestarted_givenGracefulShutdown() {
+        // given
+        CartSessionService givenService = start();
+        String givenSessionId = givenService.create(TestDataFactory.createCartSessionRequestIndividual()).sessionId();
+        CartSessionResponse expected = givenService.get(givenSessionId);
+        journals.getLast().close();
+
+        // when
+        CartSessionService actualService = start();
+
+        // then
+        assertThat(actualService.get(givenSessionId)).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldIgnoreTornRecord_whenRestarted_givenCorruptJournalTail() throws IOException {
+        // given
+        CartSessionService givenService = start();
+        String givenSessionId = givenService.create(TestDataFactory.createCartSessionRequestIndividual()).sessionId();
+        CartSessionResponse expected = givenService.get(givenSessionId);
+        givenService.changeQuantity(givenSessionId, ProductType.LAPTOP, 7);
+        crash();
+        corruptLastRecord(files("journal-").getFirst());
+
+        // when
+        CartSessionService actualService = start();
+
+        // then - the change held by the torn record is lost, everything before it is kept
+        assertThat(actualService.get(givenSessionId)).isEqualTo(expected);
+    }
+
+    /**
+     * Journal taking a snapshot right after appending each creation and line record, as the periodic snapshot may
+     * while a session is being created.
+     */
+    private static final class SnapshotAfterEachRecordJournal extends CartSessionJournal {
+
+        SnapshotAfterEachRecordJournal(CartProperties cartProperties) {
+            super(cartProperties);
+        }
+
+        @Override
+        void sessionCreated(String sessionId, String tier, String clientId) {
+            super.sessionCreated(sessionId, tier, clientId);
+            snapshotNow();
+        }
+
+        @Override
+        void lineChanged(String sessionId, ProductType productType, int quantity) {
+            super.lineChanged(sessionId, productType, quantity);
+            snapshotNow();
+        }
+
+        private void snapshotNow() {
+            try {
+                snapshot();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    private List<Path> files(String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(prefix)).sorted().toList();
+        }
+    }
+
+    /**
+     * Flips a byte of the last record of a segment, as a crash in the middle of its write would leave it.
+     */
+    private static void corruptLastRecord(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+            long position = 0;
+            long lastRecord = 0;
+            while (true) {
+                header.clear();
+                channel.read(header, position);
+                int length = header.flip().getInt();
+                if (length == 0) {
+                    break;
+                }
+                lastRecord = position;
+                position += 2 * Integer.BYTES + length;
+            }
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) 0xFF}), position - 1);
+            assertThat(lastRecord).isPositive();
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.capco.sales.service;
+
+import com.capco.sales.TestDataFactory;
+import com.capco.sales.catalog.NegotiatedPrices;
+import com.capco.sales.catalog.PriceCatalog;
+import com.capco.sales.config.CartProperties;
+import com.capco.sales.config.NegotiatedPriceProperties;
+import com.capco.sales.config.PriceCatalogProperties;
+import com.capco.sales.config.PromotionProperties;
+import com.capco.sales.dto.AppliedDiscount;
+import com.capco.sales.dto.CartItemDto;
+import com.capco.sales.dto.CartSessionRequest;
+import com.capco.sales.dto.CartSessionResponse;
+import com.capco.sales.dto.CartTotalResponse;
+import com.capco.sales.dto.ItemDetail;
+import com.capco.sales.exception.CartSessionNotFoundException;
+import com.capco.sales.model.ProductType;
+import com.capco.sales.pricing.PromotionEngine;
+import com.capco.sales.pricing.PromotionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+
+import static com.capco.sales.TestDataFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CartSessionServiceUnitTest {
+
+    private CartSessionService cartSessionService;
+
+    @TempDir
+    private Path tempDir;
+
+    @BeforeEach
+    void setup() {
+        cartSessionService = createCartSessionService(TestDataFactory.createBuiltInPriceCatalog());
+    }
+
+    private static CartSessionService createCartSessionService(PriceCatalog priceCatalog) {
+        return createCartSessionService(priceCatalog, TestDataFactory.createNegotiatedPrices(),
+                TestDataFactory.createPromotionEngine());
+    }
+
+    private static CartSessionService createCartSessionService(PriceCatalog priceCatalog,
+                                                               NegotiatedPrices negotiatedPrices,
+                                                               PromotionEngine promotionEngine) {
+        CartProperties properties = new CartProperties();
+        return new CartSessionService(priceCatalog, TestDataFactory.createDefaultPricingStrategyResolver(),
+                negotiatedPrices, promotionEngine,
+                new CartSessionStore(properties),
+                new CartSessionJournal(properties));
+    }
+
+    @Test
+    void shouldReturnSameTotalAsCartCalculation_whenCreate_givenInitialItems() {
+        // given
+        CartSessionRequest givenRequest = TestDataFactory.createCartSessionRequestIndividual();
+        CartTotalResponse expected = TestDataFactory.createExpectedResponseIndividual();
+
+        // when
+        CartSessionResponse actual = cartSessionService.create(givenRequest);
+
+        // then
+        assertThat(actual.sessionId()).isNotBlank();
+        assertThat(actual.total()).isEqualTo(expected.total());
+        assertThat(actual.itemDetails()).isEqualTo(expected.itemDetails());
+    }
+
+    @Test
+    void shouldMergeQuantities_whenAddItem_givenProductAlreadyInCart() {
+        // given
+        String givenSessionId = cartSessionService.create(TestDataFactory.createCartSessionRequestIndividual())
+                                                  .sessionId();
+
+        // when
+        CartSessionResponse actual = cartSessionService.addItem(givenSessionId,
+                new CartItemDto(ProductType.HIGH_END_PHONE, 1));
+
+        // then - (1500 * 3) + (1200 * 1)
+        assertThat(actual.total()).isEqualTo(new BigDecimal("5700"));
+        assertThat(actual.itemDetails()).containsExactly(
+                new ItemDetail(ProductType.HIGH_END_PHONE, 3, PRICE_INDIVIDUAL_HIGH_END, new BigDecimal("4500")),
+                new ItemDetail(ProductType.LAPTOP, 1, PRICE_INDIVIDUAL_LAPTOP, PRICE_INDIVIDUAL_LAPTOP)
+        );
+    }
+
+    @Test
+    void shouldAdjustTotal_whenChangeQuantity_givenExistingLine() {
+        // given
+        String givenSessionId = cartSessionService.create(TestDataFactory.createCartSessionRequestIndividual())
+                                                  .sessionId();
+
+        // when
+        CartSessionResponse actual = cartSessionService.changeQuantity(givenSessionId, ProductType.LAPTOP, 3);
+
+        // then - (1500 * 2) + (1200 * 3)
+        assertThat(actual.total()).isEqualTo(new BigDecimal("6600"));
+        assertThat(actual.itemDetails()).extracting(ItemDetail::quantity).containsExactly(2, 3);
+    }
+
+    @Test
+    void shouldDropLine_whenRemoveItem_givenExistingLine() {
+        // given
+        String givenSessionId = cartSessionService.create(TestDataFactory.createCartSessionRequestIndividual())
+                                                  .sessionId();
+
+        // when
+        CartSessionResponse actual = cartSessionService.removeItem(givenSessionId, ProductType.HIGH_END_PHONE);
+
+        // then
+        assertThat(actual.total()).isEqualByComparingTo(PRICE_INDIVIDUAL_LAPTOP);
+        assertThat(actual.itemDetails()).extracting(ItemDetail::productType).containsExactly(ProductType.LAPTOP);
+    }
+
+    @Test
+    void shouldReturnEmptyCart_whenCreate_givenNoInitialItems() {
+        // given
+        CartSessionRequest givenRequest = new CartSessionRequest(TestDataFactory.createProfessionalClientLowRevenue(),
+                null);
+
+        // when
+        CartSessionResponse actual = cartSessionService.create(givenRequest);
+
+        // then
+        assertThat(actual.total()).isEqualTo(BigDecimal.ZERO);
+        assertThat(actual.itemDetails()).isEmpty();
+    }
+
+    @Test
+    void shouldThrowNotFound_whenGet_givenDeletedSession() {
+        // given
+        String givenSessionId = cartSessionService.create(TestDataFactory.createCartSessionRequestIndividual())
+                                                  .sessionId();
+        cartSessionService.delete(givenSessionId);
+
+        // when & then
+        assertThatThrownBy(() -> cartSessionService.get(givenSessionId))
+                .isInstanceOf(CartSessionNotFoundException.class);
+    }
+
+    @Test
+    void shouldRepriceCart_whenGet_givenReloadedPriceCatalog() throws IOException {
+        // given
+        Path givenFile = tempDir.resolve("price-catalog.json");
+        Files.writeString(givenFile, catalog("1200"));
+        PriceCatalog givenCatalog = TestDataFactory.createPriceCatalog(new PriceCatalogProperties().setPath(givenFile));
+        CartSessionService givenService = createCartSessionService(givenCatalog);
+        String givenSessionId = givenService.create(TestDataFactory.createCartSessionRequestIndividual()).sessionId();
+
+        Files.writeString(givenFile, catalog("1000"));
+        Files.setLastModifiedTime(givenFile, FileTime.from(Instant.now().plusSeconds(10)));
+        givenCatalog.reloadIfChanged();
+
+        // when
+        CartSessionResponse actual = givenService.get(givenSessionId);
+
+        // then - (1500 * 2) + (1000 * 1)
+        assertThat(actual.total()).isEqualTo(new BigDecimal("4000"));
+        assertThat(actual.itemDetails()).extracting(ItemDetail::totalPrice)
+                                        .containsExactly(new BigDecimal("3000"), new BigDecimal("1000"));
+    }
+
+    @Test
+    void shouldKeepLinesInProductOrder_whenAddItem_givenItemsAddedOutOfOrder() {
+        // given
+        CartSessionRequest givenRequest = new CartSessionRequest(TestDataFactory.createProfessionalClientHighRevenue(),
+                List.of(new CartItemDto(ProductType.LAPTOP, 1)));
+        String givenSessionId = cartSessionService.create(givenRequest).sessionId();
+
+        // when
+        CartSessionResponse actual = cartSessionService.addItem(givenSessionId,
+                new CartItemDto(ProductType.MID_RANGE_PHONE, 10));
+
+        // then - (550 * 10) + (900 * 1)
+        assertThat(actual.total()).isEqualTo(new BigDecimal("6400"));
+        assertThat(actual.itemDetails()).extracting(ItemDetail::productType)
+                                        .containsExactly(ProductType.MID_RANGE_PHONE, ProductType.LAPTOP);
+    }
+
+    @Test
+    void shouldApplyNegotiatedPricesAndPromotions_whenAddItem_givenProfessionalClientWithNegotiatedPrices()
+            throws IOException {
+        // given
+        Path givenPrices = Files.writeString(tempDir.resolve("negotiated-prices.csv"), "PRO001,LAPTOP,849.99\n");
+        PromotionProperties givenPromotions = new PromotionProperties();
+        givenPromotions.getRules().add(new PromotionProperties.Promotion().setId("LAPTOP_SALE")
+                                                                           .setType(PromotionType.PERCENTAGE)
+                                                                           .setPercent(BigDecimal.TEN)
+                                                                           .setProducts(EnumSet.of(ProductType.LAPTOP)));
+        CartSessionService givenService = createCartSessionService(TestDataFactory.createBuiltInPriceCatalog(),
+                TestDataFactory.createNegotiatedPrices(new NegotiatedPriceProperties().setPath(givenPrices)),
+                new PromotionEngine(givenPromotions));
+        String givenSessionId = givenService.create(new CartSessionRequest(
+                TestDataFactory.createProfessionalClientHighRevenue(),
+                List.of(new CartItemDto(ProductType.LAPTOP, 2)))).sessionId();
+
+        // when
+        CartSessionResponse actual = givenService.addItem(givenSessionId, new CartItemDto(ProductType.LAPTOP, 1));
+
+        // then - (849.99 * 3) - 10%
+        assertThat(actual.total()).isEqualTo(new BigDecimal("2294.97"));
+        assertThat(actual.itemDetails()).containsExactly(
+                new ItemDetail(ProductType.LAPTOP, 3, new BigDecimal("849.99"), new BigDecimal("2549.97"),
+                        List.of(new AppliedDiscount("LAPTOP_SALE", new BigDecimal("255.00")))));
+        assertThat(givenService.get(givenSessionId)).isEqualTo(actual);
+    }
+
+    private static String catalog(String laptopPrice) {
+        return """
+                {"tiers": {"INDIVIDUAL": {"HIGH_END_PHONE": 1500, "MID_RANGE_PHONE": 800, "LAPTOP": %s}}}
+                """.formatted(laptopPrice);
+    }
+}
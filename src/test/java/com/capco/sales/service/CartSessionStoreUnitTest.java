@@ -0,0 +1,207 @@
+package com.capco.sales.service;
+
+import com.capco.sales.config.CartProperties;
+import com.capco.sales.pricing.IndividualPricingStrategy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CartSessionStoreUnitTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private CartSessionStore createStore(int shards, long maximumSize) {
+        CartProperties properties = new CartProperties();
+        properties.getSessions()
+                  .setShards(shards)
+                  .setMaximumSize(maximumSize)
+                  .setIdleTimeout(Duration.ofMinutes(30));
+        return new CartSessionStore(properties, clock::get);
+    }
+
+    private static CartSession session(String id) {
+        return new CartSession(id, IndividualPricingStrategy.INSTANCE, null, IndividualPricingStrategy.INSTANCE.priceTable(),
+                new CartSessionJournal(new CartProperties()));
+    }
+
+    @Test
+    void shouldRoundShardCountUpToPowerOfTwo_whenCreated_givenConfiguredShards() {
+        // given & when
+        CartSessionStore actual = createStore(12, 1_000);
+
+        // then
+        assertThat(actual.shardCount()).isEqualTo(16);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedSession_whenPut_givenFullShard() {
+        // given
+        CartSessionStore givenStore = createStore(1, 2);
+        givenStore.put(session("a"));
+        givenStore.put(session("b"));
+        givenStore.get("a");
+
+        // when
+        givenStore.put(session("c"));
+
+        // then
+        assertThat(givenStore.get("a")).isNotNull();
+        assertThat(givenStore.get("b")).isNull();
+        assertThat(givenStore.get("c")).isNotNull();
+    }
+
+    @Test
+    void shouldNotReturnSession_whenGet_givenIdleTimeoutElapsed() {
+        // given
+        CartSessionStore givenStore = createStore(4, 1_000);
+        givenStore.put(session("a"));
+        clock.addAndGet(Duration.ofMinutes(31).toNanos());
+
+        // when & then
+        assertThat(givenStore.get("a")).isNull();
+        assertThat(givenStore.remove("a")).isFalse();
+    }
+
+    @Test
+    void shouldRemoveOnlyIdleSessions_whenSweep_givenRecentlyUsedSession() {
+        // given
+        CartSessionStore givenStore = createStore(1, 1_000);
+        givenStore.put(session("idle"));
+        givenStore.put(session("used"));
+        clock.addAndGet(Duration.ofMinutes(20).toNanos());
+        givenStore.get("used");
+        clock.addAndGet(Duration.ofMinutes(20).toNanos());
+
+        // when
+        givenStore.sweep();
+
+        // then
+        assertThat(givenStore.size()).isEqualTo(1);
+        assertThat(givenStore.get("used")).isNotNull();
+    }
+
+    @Test
+    void shouldRemoveIdleSession_whenSweep_givenSessionStoredWhileClockWasRead() throws InterruptedException {
+        // given - "recent" is stored 20 minutes later, by another thread, while "idle" reads the clock
+        CartProperties givenProperties = new CartProperties();
+        givenProperties.getSessions().setShards(1).setIdleTimeout(Duration.ofMinutes(30));
+        CartSessionStore[] givenStore = new CartSessionStore[1];
+        Thread[] givenOtherThread = new Thread[1];
+        givenStore[0] = new CartSessionStore(givenProperties, () -> {
+            long now = clock.get();
+            if (givenOtherThread[0] == null) {
+                clock.addAndGet(Duration.ofMinutes(20).toNanos());
+                givenOtherThread[0] = Thread.ofPlatform().start(() -> givenStore[0].put(session("recent")));
+                try {
+                    givenOtherThread[0].join(200);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return now;
+        });
+        givenStore[0].put(session("idle"));
+        givenOtherThread[0].join();
+        clock.addAndGet(Duration.ofMinutes(20).toNanos());
+
+        // when
+        givenStore[0].sweep();
+
+        // then
+        assertThat(givenStore[0].size()).isEqualTo(1);
+        assertThat(givenStore[0].get("recent")).isNotNull();
+    }
+
+    @Test
+    void shouldReportEverySessionDroppedByStore_whenEvictedOrExpired_givenEvictionListener() {
+        // given
+        CartSessionStore givenStore = createStore(1, 3);
+        List<String> actualEvicted = new ArrayList<>();
+        givenStore.onEviction(actualEvicted::add);
+        givenStore.put(session("evicted"));
+        givenStore.put(session("expired-on-get"));
+        givenStore.put(session("expired-on-remove"));
+        givenStore.put(session("expired-on-sweep"));
+        clock.addAndGet(Duration.ofMinutes(31).toNanos());
+        givenStore.put(session("deleted"));
+
+        // when
+        givenStore.get("expired-on-get");
+        givenStore.remove("expired-on-remove");
+        givenStore.sweep();
+        givenStore.remove("deleted");
+
+        // then - an explicit removal is journaled by its caller
+        assertThat(actualEvicted).containsExactly("evicted", "expired-on-get", "expired-on-remove", "expired-on-sweep");
+    }
+
+    @Test
+    void shouldPublishOccupancyAndEvictions_whenBindTo_givenEvictedSessions() {
+        // given
+        CartSessionStore givenStore = createStore(2, 2);
+        SimpleMeterRegistry givenRegistry = new SimpleMeterRegistry();
+        givenStore.bindTo(givenRegistry);
+        IntStream.range(0, 10).forEach(i -> givenStore.put(session("session-" + i)));
+
+        // when
+        double actualActive = givenRegistry.get("cart.sessions.active").gauge().value();
+        double actualOccupancy = givenRegistry.get("cart.sessions.shard.occupancy").gauges().stream()
+                                              .mapToDouble(gauge -> gauge.value()).sum();
+        double actualEvictions = givenRegistry.get("cart.sessions.evictions").tag("cause", "size")
+                                              .functionCounter().count();
+
+        // then
+        assertThat(actualActive).isEqualTo(2);
+        assertThat(actualOccupancy).isEqualTo(2);
+        assertThat(actualEvictions).isEqualTo(8);
+    }
+
+    @Test
+    void shouldKeepEverySession_whenPutAndGet_givenConcurrentWriters() throws Exception {
+        // given
+        CartSessionStore givenStore = createStore(0, 1_000_000);
+        int givenThreads = 8;
+        int givenSessionsPerThread = 5_000;
+        CountDownLatch givenStart = new CountDownLatch(1);
+        ConcurrentHashMap<String, Boolean> missing = new ConcurrentHashMap<>();
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(givenThreads);
+        try {
+            List<Future<?>> futures = IntStream.range(0, givenThreads).<Future<?>>mapToObj(t -> executor.submit(() -> {
+                givenStart.await();
+                for (int i = 0; i < givenSessionsPerThread; i++) {
+                    String id = t + "-" + i;
+                    givenStore.put(session(id));
+                    if (givenStore.get(id) == null) {
+                        missing.put(id, true);
+                    }
+                }
+                return null;
+            })).toList();
+            givenStart.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(missing).isEmpty();
+        assertThat(givenStore.size()).isEqualTo((long) givenThreads * givenSessionsPerThread);
+    }
+}
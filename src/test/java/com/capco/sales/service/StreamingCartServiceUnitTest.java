@@ -0,0 +1,130 @@
+package com.capco.sales.service;
+
+import com.capco.sales.TestDataFactory;
+import com.capco.sales.config.CartProperties;
+import com.capco.sales.dto.CartItemDto;
+import com.capco.sales.dto.CartTotalResponse;
+import com.capco.sales.dto.CartView;
+import com.capco.sales.dto.LineAggregation;
+import com.capco.sales.dto.ShoppingCartRequest;
+import com.capco.sales.exception.CartValidationException;
+import com.capco.sales.metrics.CartMetrics;
+import com.capco.sales.model.ProductType;
+import com.capco.sales.validation.ShoppingCartRequestValidator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamingCartServiceUnitTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private CartService cartService;
+    private StreamingCartService streamingCartService;
+
+    @BeforeEach
+    void setup() {
+        CartProperties properties = new CartProperties();
+        CartMetrics cartMetrics = new CartMetrics(new SimpleMeterRegistry());
+        cartService = new CartService(new CartPricingEngine(new CartProperties()), TestDataFactory.createBuiltInPriceCatalog(),
+                TestDataFactory.createDefaultPricingStrategyResolver(), TestDataFactory.createNegotiatedPrices(),
+                TestDataFactory.createPromotionEngine(), properties, new CartQuoteCache(properties), cartMetrics);
+        streamingCartService = new StreamingCartService(cartService, cartMetrics, objectMapper);
+    }
+
+    private CartTotalResponse calculate(String body, boolean totalsOnly) throws IOException {
+        return streamingCartService.calculateTotal(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)),
+                null, totalsOnly ? CartView.TOTAL : CartView.FULL);
+    }
+
+    private static ShoppingCartRequest largeCart(int lines) {
+        Random random = new Random(42);
+        List<CartItemDto> items = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            items.add(new CartItemDto(ProductType.values()[random.nextInt(ProductType.values().length)],
+                    1 + random.nextInt(10)));
+        }
+        return new ShoppingCartRequest(TestDataFactory.createProfessionalClientLowRevenue(), items);
+    }
+
+    @Test
+    void shouldReturnSameResponseAsBoundRequest_whenCalculateTotal_givenFullMode() throws IOException {
+        // given
+        ShoppingCartRequest givenRequest = largeCart(1_000);
+
+        // when
+        CartTotalResponse actual = calculate(objectMapper.writeValueAsString(givenRequest), false);
+
+        // then
+        assertThat(actual).usingRecursiveComparison().isEqualTo(cartService.calculateTotal(givenRequest));
+    }
+
+    @Test
+    void shouldReturnTotalWithoutItemDetails_whenCalculateTotal_givenTotalsOnly() throws IOException {
+        // given
+        ShoppingCartRequest givenRequest = largeCart(10_000);
+
+        // when
+        CartTotalResponse actual = calculate(objectMapper.writeValueAsString(givenRequest), true);
+
+        // then
+        assertThat(actual.total()).isEqualTo(cartService.calculateTotal(givenRequest).total());
+        assertThat(actual.itemDetails()).isEmpty();
+    }
+
+    @Test
+    void shouldPriceCart_whenCalculateTotal_givenItemsBeforeClientAndUnknownFields() throws IOException {
+        // given
+        String givenBody = """
+                {
+                  "items": [{"productType": "LAPTOP", "quantity": 1, "note": {"gift": true}}],
+                  "channel": "web",
+                  "client": {"type": "INDIVIDUAL", "clientId": "IND001", "firstName": "John", "lastName": "Doe"}
+                }
+                """;
+
+        // when
+        CartTotalResponse actual = calculate(givenBody, true);
+
+        // then
+        assertThat(actual.total()).isEqualByComparingTo("1200");
+    }
+
+    @Test
+    void shouldThrowSameErrorsAsValidator_whenCalculateTotal_givenInvalidRequest() throws IOException {
+        // given
+        String givenBody = TestDataFactory.createInvalidRequestWithAllMissingFields();
+        Map<String, String> expected = ShoppingCartRequestValidator.validate(
+                objectMapper.readValue(givenBody, ShoppingCartRequest.class));
+
+        // when & then
+        assertThatThrownBy(() -> calculate(givenBody, true))
+                .isInstanceOfSatisfying(CartValidationException.class,
+                        ex -> assertThat(ex.getErrors()).isEqualTo(expected).hasSize(3));
+    }
+
+    @Test
+    void shouldThrowJsonProcessingException_whenCalculateTotal_givenUnknownProductType() {
+        // given
+        String givenBody = """
+                {"items": [{"productType": "TABLET", "quantity": 1}]}
+                """;
+
+        // when & then
+        assertThatThrownBy(() -> calculate(givenBody, false)).isInstanceOf(JsonProcessingException.class);
+    }
+}
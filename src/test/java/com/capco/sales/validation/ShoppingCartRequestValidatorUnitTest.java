@@ -0,0 +1,144 @@
+package com.capco.sales.validation;
+
+import com.capco.sales.dto.CartItemDto;
+import com.capco.sales.dto.ShoppingCartRequest;
+import com.capco.sales.exception.CartValidationException;
+import com.capco.sales.model.Client;
+import com.capco.sales.model.ContractLevel;
+import com.capco.sales.model.IndividualClient;
+import com.capco.sales.model.ProductType;
+import com.capco.sales.model.ProfessionalClient;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShoppingCartRequestValidatorUnitTest {
+
+    private static final String[] STRINGS = {null, "", " ", "\t\n", " x ", "ABC", "fr", "FR", "F", "FRA", "FR\n",
+            "x".repeat(255), "x".repeat(256)};
+    private static final BigDecimal[] REVENUES = {null, new BigDecimal("-0.01"), BigDecimal.ZERO,
+            new BigDecimal("15000000")};
+    private static final Integer[] QUANTITIES = {null, -1, 0, 1, 5};
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    @BeforeAll
+    static void createValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    static void closeValidator() {
+        validatorFactory.close();
+    }
+
+    /**
+     * The error map {@code GlobalExceptionHandler} builds from Bean Validation.
+     */
+    private static Map<String, String> beanValidationErrors(ShoppingCartRequest request) {
+        Map<String, String> errors = new HashMap<>();
+        validator.validate(request).forEach(violation ->
+                errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+        return errors;
+    }
+
+    private static <T> T pick(Random random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static ShoppingCartRequest randomRequest(Random random) {
+        Client client = switch (random.nextInt(3)) {
+            case 0 -> null;
+            case 1 -> new IndividualClient(pick(random, STRINGS), pick(random, STRINGS), pick(random, STRINGS));
+            default -> new ProfessionalClient(pick(random, STRINGS), pick(random, STRINGS), pick(random, STRINGS),
+                    pick(random, STRINGS), pick(random, REVENUES), pick(random, STRINGS),
+                    pick(random, ContractLevel.values()));
+        };
+
+        List<CartItemDto> items = null;
+        if (random.nextInt(5) > 0) {
+            items = new ArrayList<>();
+            for (int i = random.nextInt(6); i > 0; i--) {
+                items.add(random.nextInt(10) == 0 ? null : new CartItemDto(
+                        random.nextInt(4) == 0 ? null : pick(random, ProductType.values()),
+                        pick(random, QUANTITIES)));
+            }
+        }
+        return new ShoppingCartRequest(client, items);
+    }
+
+    @Test
+    void shouldReturnSameErrorsAsBeanValidation_whenValidate_givenRandomRequests() {
+        // given
+        Random givenRandom = new Random(42);
+
+        for (int i = 0; i < 5_000; i++) {
+            ShoppingCartRequest givenRequest = randomRequest(givenRandom);
+
+            // when
+            Map<String, String> actual = ShoppingCartRequestValidator.validate(givenRequest);
+
+            // then
+            assertThat(actual).as("errors of %s", givenRequest).isEqualTo(beanValidationErrors(givenRequest));
+        }
+    }
+
+    @Test
+    void shouldReturnEmptyErrors_whenValidate_givenValidRequest() {
+        // given
+        ShoppingCartRequest givenRequest = new ShoppingCartRequest(
+                new ProfessionalClient("PRO001", "Tech Corp", null, "REG123", BigDecimal.ZERO, "FR", null),
+                List.of(new CartItemDto(ProductType.LAPTOP, 1), new CartItemDto(ProductType.HIGH_END_PHONE, 2)));
+
+        // when
+        Map<String, String> actual = ShoppingCartRequestValidator.validate(givenRequest);
+
+        // then
+        assertThat(actual).isEmpty();
+        assertThat(beanValidationErrors(givenRequest)).isEmpty();
+    }
+
+    @Test
+    void shouldKeyErrorsByLineIndex_whenValidate_givenInvalidLines() {
+        // given
+        ShoppingCartRequest givenRequest = new ShoppingCartRequest(
+                new IndividualClient("IND001", " ", "Doe"),
+                Arrays.asList(new CartItemDto(ProductType.LAPTOP, 1), null, new CartItemDto(null, 0)));
+
+        // when
+        Map<String, String> actual = ShoppingCartRequestValidator.validate(givenRequest);
+
+        // then
+        assertThat(actual).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "client.firstName", "First name is required",
+                "items[2].productType", "Product type is required",
+                "items[2].quantity", "Quantity must be at least 1"));
+    }
+
+    @Test
+    void shouldThrowWithErrors_whenRequireValid_givenEmptyCart() {
+        // given
+        ShoppingCartRequest givenRequest = new ShoppingCartRequest(null, List.of());
+
+        // when & then
+        assertThatThrownBy(() -> ShoppingCartRequestValidator.requireValid(givenRequest))
+                .isInstanceOfSatisfying(CartValidationException.class, ex -> assertThat(ex.getErrors())
+                        .isEqualTo(Map.of("client", "Client is required", "items", "Cart items cannot be empty")));
+    }
+}